@@ -41,6 +41,28 @@ public class Hurricane
         category = determineCategory( speed );
     }
 
+    /**
+     * Initializes a Hurricane object whose category is already known,
+     * such as one figured out on a regional scale.
+     * 
+     * @param year      year the hurricane took place
+     * @param month     month in String format
+     * @param pressure  hurricane's pressure
+     * @param speed     hurricane's speed in knots
+     * @param name      hurricane's name
+     * @param category  hurricane's category
+     */
+    Hurricane(int year, String month, int pressure, int speed, String name,
+        int category)
+    {
+        this.speed = speed;
+        this.name = name;
+        this.year = year;
+        this.month = month;
+        this.pressure = pressure;
+        this.category = category;
+    }
+
     /**
      * Based upon Saffir/Simpson Hurricane Scale, figures out
      * the category using wind speed in knots.
@@ -52,17 +74,17 @@ public class Hurricane
      */
     public int determineCategory(int knots)
     {
-        if ( knots <= 63 )
-            return 0;
-        if ( knots <= 82 )
-            return 1;
-        if ( knots <= 95 )
-            return 2;
-        if ( knots <= 112 )
-            return 3;
-        if ( knots <= 136 )
-            return 4;
-        return 5;
+        return HurricaneCategoryScale.SAFFIR_SIMPSON.categoryOf(knots);
+    }
+
+    /**
+     * Figures out the category again on a different scale.
+     *
+     * @param scale  the hurricane scale to use
+     */
+    void reclassify(HurricaneCategoryScale scale)
+    {
+        category = scale.categoryOf(speed);
     }
 
     //Getters
@@ -0,0 +1,724 @@
+import java.io.*;
+import java.lang.management.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Times the hurricane organizer on generated data.  Each operation runs
+ * a few times to warm up, then the best of several timed runs is
+ * reported.  Every result is stored in a volatile field, so the compiler
+ * cannot drop an operation whose answer is never used.  Datasets are
+ * written as text files in the format of hurricanedata.txt, so file
+ * loading is timed the same way as the menu uses it.
+ *
+ * Run with the dataset sizes to try, for example:
+ * java -Xmx8g HurricaneBenchmark 1000 100000 10000000
+ *
+ * Each benchmark and size then runs in a fresh JVM with the same options,
+ * so code compiled and garbage left by one benchmark do not change the
+ * next one's times.  Name a benchmark to run only that one in this JVM:
+ * java -Xmx8g HurricaneBenchmark sorts 1000000
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneBenchmark
+{
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final long SEED = 6720;
+    private static final String[] BENCHMARKS = {"organizer", "sorts",
+        "categories", "parallelSort", "report", "rangeSearch"};
+
+    private static volatile Object sink;
+
+    /**
+     * Times an operation, returning the best time of the measured rounds.
+     * Each result is stored in the sink.
+     *
+     * @param operation  the operation to time
+     * @return the fastest time in milliseconds
+     */
+    private static double time(Supplier<?> operation)
+    {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++)
+        {
+            long start = System.nanoTime();
+            sink = operation.get();
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS)
+                best = Math.min(best, elapsed);
+        }
+        return best / 1e6;
+    }
+
+    /**
+     * Times an operation that changes state instead of returning a result.
+     *
+     * @param operation  the operation to time
+     * @return the fastest time in milliseconds
+     */
+    private static double time(Runnable operation)
+    {
+        return time(() ->
+        {
+            operation.run();
+            return operation;
+        });
+    }
+
+    /**
+     * Times a sort, returning the best time of the measured rounds.
+     * Every round sorts a fresh copy of the data; making the copy is not
+     * timed.
+     *
+     * @param data  the hurricanes to sort; not changed
+     * @param sort  the sort to time
+     * @return the fastest time in milliseconds
+     */
+    private static double time(Hurricane[] data, Consumer<Hurricane[]> sort)
+    {
+        return time(() -> data.clone(), sort);
+    }
+
+    /**
+     * Times a sort of row numbers, returning the best time of the
+     * measured rounds.  Every round sorts a fresh copy of the rows; making
+     * the copy is not timed.
+     *
+     * @param rows  the row numbers to sort; not changed
+     * @param sort  the sort to time
+     * @return the fastest time in milliseconds
+     */
+    private static double time(int[] rows, Consumer<int[]> sort)
+    {
+        return time(() -> rows.clone(), sort);
+    }
+
+    /**
+     * Times an operation that needs fresh input every round, returning
+     * the best time of the measured rounds.  The input is made before
+     * each round, and making it is not timed.
+     *
+     * @param setup      makes the input for one round
+     * @param operation  the operation to time
+     * @return the fastest time in milliseconds
+     */
+    private static <T> double time(Supplier<T> setup, Consumer<T> operation)
+    {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++)
+        {
+            T input = setup.get();
+            long start = System.nanoTime();
+            operation.accept(input);
+            long elapsed = System.nanoTime() - start;
+            sink = input;
+            if (round >= WARMUP_ROUNDS)
+                best = Math.min(best, elapsed);
+        }
+        return best / 1e6;
+    }
+
+    /**
+     * Prints the time of one organizer operation.
+     *
+     * @param label      what is being timed
+     * @param operation  the operation to time
+     */
+    private static void report(String label, Supplier<?> operation)
+    {
+        System.out.printf("%-28s %12.3f ms \n", label, time(operation));
+    }
+
+    /**
+     * Prints the time of one organizer operation that changes state
+     * instead of returning a result.
+     *
+     * @param label      what is being timed
+     * @param operation  the operation to time
+     */
+    private static void report(String label, Runnable operation)
+    {
+        System.out.printf("%-28s %12.3f ms \n", label, time(operation));
+    }
+
+    /**
+     * Prints the time of one organizer operation that needs fresh input
+     * every round.
+     *
+     * @param label      what is being timed
+     * @param setup      makes the input for one round; not timed
+     * @param operation  the operation to time
+     */
+    private static <T> void report(String label, Supplier<T> setup,
+        Consumer<T> operation)
+    {
+        System.out.printf("%-28s %12.3f ms \n", label,
+            time(setup, operation));
+    }
+
+    /**
+     * Loads a dataset from a file, wrapping the checked exception so the
+     * load can be timed as a Runnable.
+     *
+     * @param cane      the organizer to load into
+     * @param filename  the file to load
+     * @param parallel  true to parse on several threads
+     */
+    private static void load(HurricaneOrganizerArray cane, String filename,
+        boolean parallel)
+    {
+        try
+        {
+            cane.readFile(filename, parallel);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Computes the statistics of a file by streaming it, wrapping the
+     * checked exception so the pass can be timed as a Supplier.
+     *
+     * @param filename  the file to read
+     * @return statistics of every hurricane in the file
+     */
+    private static HurricaneStats stream(String filename)
+    {
+        try
+        {
+            return HurricaneStream.stats(filename, new HurricaneQuery());
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Times loading, sorting, searching and statistics on one generated
+     * dataset.
+     *
+     * @param count  number of hurricanes to generate
+     *
+     * @throws IOException  if the temporary data file cannot be written
+     */
+    public static void benchmarkOrganizer(int count) throws IOException
+    {
+        File file = File.createTempFile("hurricanes", ".txt");
+        file.deleteOnExit();
+        String filename = file.getPath();
+        new HurricaneDataGenerator(SEED).writeFile(filename, count);
+        HurricaneOrganizerArray cane = new HurricaneOrganizerArray(filename);
+
+        System.out.printf("\nOrganizer, %d hurricanes \n", count);
+        report("readFile", () -> load(cane, filename, false));
+        report("readFile, parallel", () -> load(cane, filename, true));
+        // Every sort starts from a shuffled order, not the last sort's
+        Random random = new Random(SEED);
+        Supplier<HurricaneOrganizerArray> shuffled = () ->
+        {
+            cane.shuffle(random);
+            return cane;
+        };
+        report("sortYears", shuffled, c -> c.sortYears());
+        report("sortNames", shuffled, c -> c.sortNames());
+        report("sortCategories", shuffled, c -> c.sortCategories());
+        report("sortPressures", shuffled, c -> c.sortPressures());
+        report("sortWindSpeeds", shuffled, c -> c.sortWindSpeeds(0, count - 1));
+        report("searchYear", () -> cane.searchYear(1990));
+        report("searchHurricaneName", () -> cane.searchHurricaneName("Hugo"));
+        List<String> names = new ArrayList<String>();
+        for (int id = 0; id < cane.getColumns().nameCount(); id++)
+        {
+            names.add(cane.getColumns().nameOf(id));
+        }
+        report("searchHurricaneName, each", () ->
+        {
+            int found = 0;
+            for (String name : names)
+                found += cane.searchHurricaneName(name).length;
+            return found;
+        });
+        report("searchHurricaneNames", () -> cane.searchHurricaneNames(names));
+        report("searchNameRange, each", () ->
+        {
+            int found = 0;
+            for (String name : names)
+                found += cane.searchHurricaneNameRange(name).size();
+            return found;
+        });
+        report("groupBy year", () -> cane.groupBy(HurricaneKey.YEAR, false));
+        report("groupBy year, parallel",
+            () -> cane.groupBy(HurricaneKey.YEAR, true));
+        report("statistics, one pass",
+            () -> HurricaneStats.of(cane.getColumns()));
+        report("statistics, streamed", () -> stream(filename));
+        report("statistics, cached", () -> cane.findMaxWindSpeed()
+            + cane.findMinWindSpeed() + cane.findMaxPressure()
+            + cane.findMinPressure() + cane.calculateAverageWindSpeed()
+            + cane.calculateAveragePressure()
+            + cane.calculateAverageCategory());
+        HurricaneQuery recent = new HurricaneQuery().years(2000, 2009);
+        HurricaneQuery strong = new HurricaneQuery().years(2000, 2009)
+            .speeds(100, Integer.MAX_VALUE);
+        report("search, one decade", () -> cane.search(recent));
+        report("getStats, one decade", () -> cane.getStats(recent));
+        report("getStats, strong", () -> cane.getStats(strong));
+        cane.partitionBy(10);
+        report("search, by decade", () -> cane.search(recent));
+        report("getStats, by decade", () -> cane.getStats(recent));
+        report("getStats, strong by decade", () -> cane.getStats(strong));
+        cane.partitionBy(0);
+        // Each round appends a new batch to a freshly loaded organizer
+        HurricaneColumns extra = new HurricaneDataGenerator(SEED + 1)
+            .generate(Math.max(1, count / 100));
+        report("appendAll, 1% more", () ->
+        {
+            load(cane, filename, false);
+            return extra.toHurricanes();
+        }, hurs -> cane.appendAll(hurs));
+        file.delete();
+    }
+
+    /**
+     * Compares classifying every speed with the Saffir/Simpson if chain
+     * and with a scale's lookup table.
+     *
+     * @param count  number of hurricanes to generate
+     */
+    public static void benchmarkCategories(int count)
+    {
+        HurricaneColumns columns = new HurricaneDataGenerator(SEED)
+            .generate(count);
+        int[] speeds = columns.speedColumn();
+        int[] categories = new int[count];
+        System.out.printf("\nCategories, %d hurricanes \n", count);
+        double chainTime = time(() ->
+        {
+            for (int row = 0; row < count; row++)
+            {
+                categories[row] = chainCategory(speeds[row]);
+            }
+            return categories;
+        });
+        double tableTime = time(() ->
+        {
+            HurricaneCategoryScale.SAFFIR_SIMPSON.categorize(speeds, count,
+                categories);
+            return categories;
+        });
+        System.out.printf("%-28s %12.3f ms \n", "if chain", chainTime);
+        System.out.printf("%-28s %12.3f ms %6.1fx \n", "lookup table",
+            tableTime, chainTime / tableTime);
+    }
+
+    /**
+     * Figures out a Saffir/Simpson category with comparisons, the way
+     * Hurricane did before scales had lookup tables.
+     *
+     * @param knots  wind speed in knots
+     * @return Saffir/Simpson Hurricane Scale category
+     */
+    private static int chainCategory(int knots)
+    {
+        if (knots <= 63)
+            return 0;
+        if (knots <= 82)
+            return 1;
+        if (knots <= 95)
+            return 2;
+        if (knots <= 112)
+            return 3;
+        if (knots <= 136)
+            return 4;
+        return 5;
+    }
+
+    /**
+     * Prints one line comparing a comparison sort with a linear-time sort.
+     *
+     * @param label       what is being sorted
+     * @param data        the hurricanes to sort
+     * @param comparison  the merge sort version
+     * @param linear      the counting or radix sort version
+     */
+    private static void compare(String label, Hurricane[] data,
+        Consumer<Hurricane[]> comparison, Consumer<Hurricane[]> linear)
+    {
+        double mergeTime = time(data, comparison);
+        double linearTime = time(data, linear);
+        System.out.printf("%-12s %10.2f ms %10.2f ms %6.1fx \n",
+            label, mergeTime, linearTime, mergeTime / linearTime);
+    }
+
+    /**
+     * Compares merge sort with counting and radix sort for each integer key.
+     *
+     * @param count  number of hurricanes to generate
+     */
+    public static void benchmarkSorts(int count)
+    {
+        Hurricane[] data = new HurricaneDataGenerator(SEED).generate(count)
+            .toHurricanes();
+        System.out.printf("\nSort engines, %d hurricanes \n", count);
+        System.out.printf("%-12s %13s %13s %7s \n",
+            "Key", "Merge sort", "Linear sort", "Speedup");
+        compare("Category", data,
+            h -> HurricaneSorter.sort(h, (a, b) -> b.compareCategoryTo(a)),
+            h -> HurricaneSorter.countingSort(h, Hurricane::getCategory,
+                HurricaneStats.CATEGORY_COUNT - 1, true));
+        compare("Year", data,
+            h -> HurricaneSorter.sort(h, (a, b) -> a.compareYearTo(b)),
+            h -> HurricaneSorter.radixSort(h, Hurricane::getYear, false));
+        compare("Pressure", data,
+            h -> HurricaneSorter.sort(h, (a, b) -> b.comparePressureTo(a)),
+            h -> HurricaneSorter.radixSort(h, Hurricane::getPressure, true));
+        compare("Speed", data,
+            h -> HurricaneSorter.sort(h, (a, b) -> a.compareSpeedTo(b)),
+            h -> HurricaneSorter.radixSort(h, Hurricane::getSpeed, false));
+    }
+
+    /**
+     * Compares two ways of finding the range of positions holding a key:
+     * a binary search that then walks out to both ends of the range, and
+     * an Eytzinger search for each end.  The keys have many duplicates,
+     * like popular hurricane names.
+     *
+     * @param count  number of keys
+     */
+    public static void benchmarkRangeSearch(int count)
+    {
+        Random random = new Random(SEED);
+        int distinct = Math.max(1, count / 1000);
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++)
+            keys[i] = random.nextInt(distinct);
+        Arrays.sort(keys);
+        int[] lookups = new int[100000];
+        for (int i = 0; i < lookups.length; i++)
+            lookups[i] = random.nextInt(distinct);
+        HurricaneEytzinger search = new HurricaneEytzinger(keys, count);
+        long[] totals = new long[2];
+
+        System.out.printf("\nRange searches, %d keys, %d distinct \n",
+            count, distinct);
+        double walkTime = time(() ->
+        {
+            long sum = 0;
+            for (int key : lookups)
+            {
+                int hit = Arrays.binarySearch(keys, key);
+                int low = hit;
+                int high = hit + 1;
+                while (low > 0 && keys[low - 1] == key)
+                    low--;
+                while (high < count && keys[high] == key)
+                    high++;
+                sum += high - low;
+            }
+            totals[0] = sum;
+            return sum;
+        });
+        System.out.printf("%-28s %12.3f ms \n", "binary search and walk",
+            walkTime);
+        double boundTime = time(() ->
+        {
+            long sum = 0;
+            for (int key : lookups)
+                sum += search.upperBound(key) - search.lowerBound(key);
+            totals[1] = sum;
+            return sum;
+        });
+        System.out.printf("%-28s %12.3f ms %6.1fx \n", "Eytzinger bounds",
+            boundTime, walkTime / boundTime);
+        if (totals[0] != totals[1])
+            throw new IllegalStateException("Range searches disagree");
+    }
+
+    /**
+     * Compares printing each hurricane with println and toString with the
+     * buffered report writer.  Output goes to a stream that discards it.
+     *
+     * @param count  number of hurricanes to generate
+     */
+    public static void benchmarkReport(int count)
+    {
+        Hurricane[] data = new HurricaneDataGenerator(SEED).generate(count)
+            .toHurricanes();
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream(),
+            true);
+        System.out.printf("\nReports, %d hurricanes \n", count);
+        double printTime = time(() ->
+        {
+            for (Hurricane h : data)
+                discard.println(h);
+        });
+        System.out.printf("%-28s %12.3f ms \n", "println", printTime);
+        for (HurricaneReportWriter.Format format
+            : HurricaneReportWriter.Format.values())
+        {
+            double writeTime = time(() ->
+            {
+                try
+                {
+                    new HurricaneReportWriter(discard, format).report(data);
+                }
+                catch (IOException e)
+                {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            System.out.printf("%-28s %12.3f ms %6.1fx \n",
+                "report writer, " + format, writeTime, printTime / writeTime);
+        }
+    }
+
+    /**
+     * Compares the sequential and parallel merge sorts of row numbers, as
+     * sortWindSpeeds uses, with the library's parallel sort of Hurricane
+     * objects, ordering by wind speed.
+     *
+     * @param count  number of hurricanes to generate
+     */
+    public static void benchmarkParallelSort(int count)
+    {
+        HurricaneColumns columns = new HurricaneDataGenerator(SEED)
+            .generate(count);
+        Hurricane[] data = columns.toHurricanes();
+        int[] rows = new int[count];
+        for (int row = 0; row < count; row++)
+        {
+            rows[row] = row;
+        }
+        int[] speeds = columns.speedColumn();
+        IntBinaryOperator byRowSpeed = (a, b) -> Integer.compare(speeds[a],
+            speeds[b]);
+        Comparator<Hurricane> bySpeed = (a, b) -> a.compareSpeedTo(b);
+        System.out.printf("\nParallel sort, %d hurricanes, %d threads \n",
+            count, ForkJoinPool.getCommonPoolParallelism());
+        System.out.printf("%-28s %12.3f ms \n", "merge sort, rows",
+            time(rows, r -> HurricaneSorter.sortRows(r, byRowSpeed)));
+        System.out.printf("%-28s %12.3f ms \n", "parallel merge sort, rows",
+            time(rows, r -> HurricaneSorter.parallelSortRows(r, 0, r.length,
+                byRowSpeed)));
+        System.out.printf("%-28s %12.3f ms \n", "Arrays.parallelSort",
+            time(data, h -> Arrays.parallelSort(h, bySpeed)));
+    }
+
+    /**
+     * Load tests the command server with many clients at once.  Each
+     * client connects, then alternates statistics and year searches,
+     * waiting for each response before sending the next request.
+     *
+     * @param count     number of hurricanes to generate
+     * @param clients   number of clients connected at once
+     * @param requests  number of requests each client sends
+     *
+     * @throws IOException  if the data file or server cannot be set up
+     */
+    public static void benchmarkServer(int count, int clients, int requests)
+        throws IOException
+    {
+        File file = File.createTempFile("hurricanes", ".txt");
+        file.deleteOnExit();
+        new HurricaneDataGenerator(SEED).writeFile(file.getPath(), count);
+        HurricaneServer server = new HurricaneServer(
+            new HurricaneOrganizerArray(file.getPath()),
+            Runtime.getRuntime().availableProcessors());
+        int port = server.bind(0);
+        Thread serving = new Thread(() ->
+        {
+            try
+            {
+                server.serve();
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        });
+        serving.start();
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<?>> done = new ArrayList<Future<?>>();
+        long start = System.nanoTime();
+        for (int c = 0; c < clients; c++)
+        {
+            done.add(pool.submit(() ->
+            {
+                client(port, requests);
+                return null;
+            }));
+        }
+        try
+        {
+            for (Future<?> f : done)
+                f.get();
+        }
+        catch (InterruptedException | ExecutionException e)
+        {
+            throw new IOException(e);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+        server.close();
+        file.delete();
+        System.out.printf("\nServer, %d hurricanes, %d clients \n", count, clients);
+        System.out.printf("%-28s %12.0f per second \n", "requests answered",
+            clients * requests / seconds);
+    }
+
+    /**
+     * Sends requests to the server and reads each response.
+     *
+     * @param port      the server's port
+     * @param requests  number of requests to send
+     *
+     * @throws IOException  if the connection fails
+     */
+    private static void client(int port, int requests) throws IOException
+    {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        try
+        {
+            BufferedReader in = new BufferedReader(new InputStreamReader(
+                socket.getInputStream()));
+            PrintWriter out = new PrintWriter(new OutputStreamWriter(
+                socket.getOutputStream()), true);
+            for (int i = 0; i < requests; i++)
+            {
+                out.println(i % 2 == 0 ? "stats" : "search year " + (1900 + i % 100));
+                String line;
+                while ((line = in.readLine()) != null && !line.isEmpty())
+                {
+                }
+            }
+        }
+        finally
+        {
+            socket.close();
+        }
+    }
+
+    /**
+     * Runs one benchmark on one dataset size in this JVM.
+     *
+     * @param name   the benchmark, one of BENCHMARKS or "server"
+     * @param count  number of hurricanes to generate
+     *
+     * @throws IOException  if a temporary data file cannot be written
+     * @throws IllegalArgumentException  if there is no such benchmark
+     */
+    private static void run(String name, int count) throws IOException
+    {
+        switch (name)
+        {
+            case "organizer":
+                benchmarkOrganizer(count);
+                break;
+            case "sorts":
+                benchmarkSorts(count);
+                break;
+            case "categories":
+                benchmarkCategories(count);
+                break;
+            case "parallelSort":
+                benchmarkParallelSort(count);
+                break;
+            case "report":
+                benchmarkReport(count);
+                break;
+            case "rangeSearch":
+                benchmarkRangeSearch(count);
+                break;
+            case "server":
+                benchmarkServer(count, 64, 200);
+                break;
+            default:
+                throw new IllegalArgumentException("Benchmark: " + name);
+        }
+    }
+
+    /**
+     * Runs one benchmark on one dataset size in a new JVM with the same
+     * options and class path as this one, waiting for it to finish.
+     *
+     * @param name   the benchmark
+     * @param count  number of hurricanes to generate
+     *
+     * @throws IOException  if the JVM cannot be started or the benchmark
+     *                      fails
+     */
+    private static void fork(String name, int count) throws IOException
+    {
+        List<String> command = new ArrayList<String>();
+        command.add(new File(new File(System.getProperty("java.home"), "bin"),
+            "java").getPath());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(HurricaneBenchmark.class.getName());
+        command.add(name);
+        command.add(Integer.toString(count));
+        Process process = new ProcessBuilder(command).inheritIO().start();
+        try
+        {
+            if (process.waitFor() != 0)
+                throw new IOException("Benchmark failed: " + name + " " + count);
+        }
+        catch (InterruptedException e)
+        {
+            process.destroy();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted: " + name);
+        }
+    }
+
+    /**
+     * Runs the benchmarks.  Given only dataset sizes, each benchmark and
+     * size runs in its own JVM; given a benchmark name first, only that
+     * benchmark runs, in this JVM.
+     *
+     * @param args  an optional benchmark name, then the dataset sizes to
+     *              try; the sizes default to 1000 and 100000
+     *
+     * @throws IOException  if a temporary data file cannot be written or a
+     *                      benchmark JVM fails
+     */
+    public static void main(String[] args) throws IOException
+    {
+        String name = null;
+        int first = 0;
+        if (args.length > 0 && !Character.isDigit(args[0].charAt(0)))
+        {
+            name = args[0];
+            first = 1;
+        }
+        int[] sizes = {1000, 100000};
+        if (args.length > first)
+        {
+            sizes = new int[args.length - first];
+            for (int i = 0; i < sizes.length; i++)
+                sizes[i] = Integer.parseInt(args[first + i]);
+        }
+        if (name != null)
+        {
+            for (int count : sizes)
+                run(name, count);
+            return;
+        }
+        for (int count : sizes)
+        {
+            for (String benchmark : BENCHMARKS)
+                fork(benchmark, count);
+        }
+        fork("server", 1000);
+    }
+}
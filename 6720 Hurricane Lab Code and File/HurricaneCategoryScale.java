@@ -0,0 +1,116 @@
+/**
+ * Turns wind speeds into categories on a hurricane scale.  The category
+ * of every speed from 0 to 255 knots is worked out once and kept in a
+ * table, so classifying a speed is one array lookup with no comparisons
+ * against the scale's bounds.  Faster winds share the category of 255
+ * knots.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneCategoryScale
+{
+    private static final int TABLE_SIZE = 256;
+
+    /**
+     * The Saffir/Simpson Hurricane Scale, in knots.
+     *
+     * Use https://en.wikipedia.org/wiki/Saffir%E2%80%93Simpson_scale.
+     */
+    public static final HurricaneCategoryScale SAFFIR_SIMPSON =
+        new HurricaneCategoryScale("Saffir/Simpson", 63, 82, 95, 112, 136);
+
+    /**
+     * The Australian tropical cyclone intensity scale, in knots.
+     * Category 0 is below tropical cyclone strength.
+     *
+     * Use https://en.wikipedia.org/wiki/Tropical_cyclone_scales.
+     */
+    public static final HurricaneCategoryScale AUSTRALIAN =
+        new HurricaneCategoryScale("Australian", 33, 47, 63, 85, 107);
+
+    private String name;
+    private byte[] table;
+    private int categoryCount;
+
+    /**
+     * Initializes a scale from the fastest wind of each category.
+     *
+     * @param name      name of the scale
+     * @param maxKnots  the fastest wind speed, in knots, of categories 0,
+     *                  1, 2 and so on, in increasing order; any faster
+     *                  wind is in the category after the last one given
+     */
+    public HurricaneCategoryScale(String name, int... maxKnots)
+    {
+        if (maxKnots.length >= Byte.MAX_VALUE)
+            throw new IllegalArgumentException("Too many categories");
+        this.name = name;
+        categoryCount = maxKnots.length + 1;
+        table = new byte[TABLE_SIZE];
+        int category = 0;
+        for (int knots = 0; knots < TABLE_SIZE; knots++)
+        {
+            while (category < maxKnots.length && knots > maxKnots[category])
+                category++;
+            table[knots] = (byte) category;
+        }
+    }
+
+    /**
+     * Figures out the category of a wind speed.
+     *
+     * @param knots  wind speed in knots; speeds below 0 count as 0
+     * @return the category on this scale
+     */
+    public int categoryOf(int knots)
+    {
+        return table[Math.max(0, Math.min(knots, TABLE_SIZE - 1))];
+    }
+
+    /**
+     * Figures out the categories of many wind speeds in one pass.
+     *
+     * @param speeds      wind speeds in knots; speeds below 0 count as 0
+     * @param n           number of speeds to classify
+     * @param categories  receives the category of each speed
+     */
+    public void categorize(int[] speeds, int n, int[] categories)
+    {
+        byte[] table = this.table;
+        for (int i = 0; i < n; i++)
+        {
+            categories[i] = table[Math.max(0, Math.min(speeds[i], TABLE_SIZE - 1))];
+        }
+    }
+
+    /**
+     * Retrieves the number of categories, including 0.
+     *
+     * @return number of categories
+     */
+    public int getCategoryCount()
+    {
+        return categoryCount;
+    }
+
+    /**
+     * Retrieves the name of the scale.
+     *
+     * @return name of the scale
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Returns the name of the scale.
+     *
+     * @return name of the scale
+     */
+    public String toString()
+    {
+        return name;
+    }
+}
@@ -0,0 +1,751 @@
+import java.nio.*;
+import java.util.*;
+
+/**
+ * Stores hurricane records column by column.  Year, pressure, speed and
+ * category are kept in parallel int arrays, the month as a one byte code
+ * and the name as an id into a dictionary of distinct names, so a scan
+ * over one field walks a single primitive array.
+ *
+ * Row numbers are the order in which records were added.
+ *
+ * Columns opened from a snapshot are read in place from the mapped file.
+ * A column is copied into an array only when a tight loop asks for the
+ * whole column, and every column is copied before any row is added,
+ * removed or reclassified.  Copying is synchronized, so columns shared
+ * by several threads can be read while still mapped.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneColumns
+{
+    private static final String[] MONTHS = {"Jan", "Feb", "Mar", "Apr",
+        "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int size;
+    private int[] years;
+    private int[] pressures;
+    private int[] speeds;
+    private int[] categories;
+    private byte[] months;
+    private int[] nameIds;
+
+    private HurricaneDictionary monthNames;
+    private HurricaneDictionary names;
+
+    // While mapped, the getters read these and the arrays above are only
+    // filled in as the column accessors ask for them
+    private boolean mapped;
+    private IntBuffer mappedYears;
+    private IntBuffer mappedPressures;
+    private IntBuffer mappedSpeeds;
+    private ByteBuffer mappedCategories;
+    private ByteBuffer mappedMonths;
+    private IntBuffer mappedNameIds;
+
+    /**
+     * Initializes an empty set of columns.
+     */
+    public HurricaneColumns()
+    {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Initializes an empty set of columns with room for a number of rows.
+     *
+     * @param capacity  number of rows to allocate up front; capacity > 0
+     */
+    public HurricaneColumns(int capacity)
+    {
+        capacity = Math.max(capacity, 1);
+        years = new int[capacity];
+        pressures = new int[capacity];
+        speeds = new int[capacity];
+        categories = new int[capacity];
+        months = new byte[capacity];
+        nameIds = new int[capacity];
+        monthNames = new HurricaneDictionary();
+        for (String month : MONTHS)
+        {
+            monthNames.id(month);
+        }
+        names = new HurricaneDictionary();
+    }
+
+    /**
+     * Initializes columns that take over existing arrays.  Used when
+     * loading or taking a snapshot; the rows must not be changed
+     * afterward.
+     *
+     * @param size        number of rows
+     * @param years       year of each row
+     * @param pressures   pressure of each row
+     * @param speeds      speed of each row
+     * @param categories  category of each row
+     * @param months      month code of each row
+     * @param nameIds     name id of each row
+     * @param monthNames  the month for each month code
+     * @param names       the name for each name id
+     */
+    HurricaneColumns(int size, int[] years, int[] pressures, int[] speeds,
+        int[] categories, byte[] months, int[] nameIds,
+        List<String> monthNames, List<String> names)
+    {
+        this.size = size;
+        this.years = years;
+        this.pressures = pressures;
+        this.speeds = speeds;
+        this.categories = categories;
+        this.months = months;
+        this.nameIds = nameIds;
+        useDictionaries(monthNames, names);
+        if (years.length == 0)
+            grow(1);
+    }
+
+    /**
+     * Initializes columns that read their rows in place from buffers,
+     * such as sections of a mapped snapshot.  The buffers must not be
+     * changed afterward.
+     *
+     * @param size        number of rows
+     * @param years       year of each row
+     * @param pressures   pressure of each row
+     * @param speeds      speed of each row
+     * @param categories  category of each row
+     * @param months      month code of each row
+     * @param nameIds     name id of each row
+     * @param monthNames  the month for each month code
+     * @param names       the name for each name id
+     */
+    HurricaneColumns(int size, IntBuffer years, IntBuffer pressures,
+        IntBuffer speeds, ByteBuffer categories, ByteBuffer months,
+        IntBuffer nameIds, List<String> monthNames, List<String> names)
+    {
+        this.size = size;
+        mapped = true;
+        mappedYears = years;
+        mappedPressures = pressures;
+        mappedSpeeds = speeds;
+        mappedCategories = categories;
+        mappedMonths = months;
+        mappedNameIds = nameIds;
+        useDictionaries(monthNames, names);
+    }
+
+    /**
+     * Fills the month and name dictionaries.
+     *
+     * @param monthNames  the month for each month code
+     * @param names       the name for each name id
+     */
+    private void useDictionaries(List<String> monthNames, List<String> names)
+    {
+        this.monthNames = new HurricaneDictionary();
+        for (String month : monthNames)
+        {
+            this.monthNames.id(month);
+        }
+        this.names = new HurricaneDictionary();
+        for (String name : names)
+        {
+            this.names.id(name);
+        }
+    }
+
+    /**
+     * Makes columns holding the rows added so far that share this set's
+     * arrays, or the same mapped file.  Rows are never changed once added,
+     * so the copy stays the same while this set grows.  The copy must not
+     * be added to.
+     *
+     * @return the rows so far, with their own copy of the dictionaries
+     */
+    synchronized HurricaneColumns snapshot()
+    {
+        List<String> monthList = new ArrayList<String>();
+        for (int code = 0; code < monthNames.size(); code++)
+        {
+            monthList.add(monthNames.get(code));
+        }
+        List<String> nameList = new ArrayList<String>();
+        for (int id = 0; id < names.size(); id++)
+        {
+            nameList.add(names.get(id));
+        }
+        if (!mapped)
+            return new HurricaneColumns(size, years, pressures, speeds,
+                categories, months, nameIds, monthList, nameList);
+        HurricaneColumns copy = new HurricaneColumns(size, mappedYears,
+            mappedPressures, mappedSpeeds, mappedCategories, mappedMonths,
+            mappedNameIds, monthList, nameList);
+        // Share any columns already copied out of the file
+        copy.years = years;
+        copy.pressures = pressures;
+        copy.speeds = speeds;
+        copy.categories = categories;
+        copy.months = months;
+        copy.nameIds = nameIds;
+        return copy;
+    }
+
+    /**
+     * Copies every column still in a mapped file into arrays, so rows can
+     * be added, removed or changed.
+     */
+    private void materialize()
+    {
+        if (!mapped)
+            return;
+        yearColumn();
+        pressureColumn();
+        speedColumn();
+        categoryColumn();
+        monthColumn();
+        nameIdColumn();
+        mapped = false;
+        mappedYears = null;
+        mappedPressures = null;
+        mappedSpeeds = null;
+        mappedCategories = null;
+        mappedMonths = null;
+        mappedNameIds = null;
+        if (years.length == 0)
+            grow(1);
+    }
+
+    /**
+     * Adds a hurricane as the next row.
+     *
+     * @param year      year the hurricane took place
+     * @param month     month in String format
+     * @param pressure  hurricane's pressure
+     * @param speed     hurricane's speed in knots
+     * @param category  hurricane's category
+     * @param name      hurricane's name
+     * @return the row number of the new record
+     */
+    public int add(int year, String month, int pressure, int speed,
+        int category, String name)
+    {
+        return add(year, monthCode(month), pressure, speed, category,
+            nameId(name));
+    }
+
+    /**
+     * Adds a hurricane whose month and name are already coded as the next
+     * row.
+     *
+     * @param year       year the hurricane took place
+     * @param monthCode  code of the month, from monthCode
+     * @param pressure   hurricane's pressure
+     * @param speed      hurricane's speed in knots
+     * @param category   hurricane's category
+     * @param nameId     dictionary id of the name, from nameId
+     * @return the row number of the new record
+     */
+    public int add(int year, int monthCode, int pressure, int speed,
+        int category, int nameId)
+    {
+        materialize();
+        if (size == years.length)
+            grow(size * 2);
+        years[size] = year;
+        months[size] = (byte) monthCode;
+        pressures[size] = pressure;
+        speeds[size] = speed;
+        categories[size] = category;
+        nameIds[size] = nameId;
+        size++;
+        return size - 1;
+    }
+
+    /**
+     * Adds a hurricane object as the next row.
+     *
+     * @param h  the hurricane to add
+     * @return the row number of the new record
+     */
+    public int add(Hurricane h)
+    {
+        return add(h.getYear(), h.getMonth(), h.getPressure(), h.getSpeed(),
+            h.getCategory(), h.getName());
+    }
+
+    /**
+     * Adds every row of another set of columns, in order.  Month codes
+     * and name ids are translated into this set's dictionaries.
+     *
+     * @param other  the rows to add
+     */
+    public void addAll(HurricaneColumns other)
+    {
+        materialize();
+        int n = other.size;
+        if (size + n > years.length)
+            grow(Math.max(size + n, size * 2));
+        int[] monthMap = new int[other.monthNames.size()];
+        for (int code = 0; code < monthMap.length; code++)
+        {
+            monthMap[code] = monthCode(other.monthNames.get(code));
+        }
+        int[] nameMap = new int[other.names.size()];
+        for (int id = 0; id < nameMap.length; id++)
+        {
+            nameMap[id] = nameId(other.names.get(id));
+        }
+        System.arraycopy(other.yearColumn(), 0, years, size, n);
+        System.arraycopy(other.pressureColumn(), 0, pressures, size, n);
+        System.arraycopy(other.speedColumn(), 0, speeds, size, n);
+        System.arraycopy(other.categoryColumn(), 0, categories, size, n);
+        byte[] otherMonths = other.monthColumn();
+        int[] otherNameIds = other.nameIdColumn();
+        for (int i = 0; i < n; i++)
+        {
+            months[size + i] = (byte) monthMap[otherMonths[i]];
+            nameIds[size + i] = nameMap[otherNameIds[i]];
+        }
+        size += n;
+    }
+
+    /**
+     * Removes rows, moving the rows after them up.  The columns are copied
+     * rather than changed, so snapshots taken earlier keep their rows; the
+     * dictionaries keep every month and name.
+     *
+     * @param removed  the row numbers to remove, in increasing order
+     * @return the new row number of each old row, or -1 for a removed row
+     */
+    public int[] removeRows(int[] removed)
+    {
+        materialize();
+        int[] newRows = new int[size];
+        int next = 0;
+        int kept = 0;
+        for (int row = 0; row < size; row++)
+        {
+            if (next < removed.length && removed[next] == row)
+            {
+                newRows[row] = -1;
+                next++;
+            }
+            else
+            {
+                newRows[row] = kept;
+                kept++;
+            }
+        }
+        int capacity = Math.max(kept, 1);
+        years = compact(years, new int[capacity], removed);
+        pressures = compact(pressures, new int[capacity], removed);
+        speeds = compact(speeds, new int[capacity], removed);
+        categories = compact(categories, new int[capacity], removed);
+        months = compact(months, new byte[capacity], removed);
+        nameIds = compact(nameIds, new int[capacity], removed);
+        size = kept;
+        return newRows;
+    }
+
+    /**
+     * Copies a column without some of its rows, one run of kept rows at
+     * a time.
+     *
+     * @param column   the column
+     * @param kept     receives the rows that are not removed
+     * @param removed  the row numbers to leave out, in increasing order
+     * @return kept
+     */
+    private <T> T compact(T column, T kept, int[] removed)
+    {
+        int from = 0;
+        int to = 0;
+        for (int i = 0; i <= removed.length; i++)
+        {
+            int end = i < removed.length ? removed[i] : size;
+            System.arraycopy(column, from, kept, to, end - from);
+            to += end - from;
+            from = end + 1;
+        }
+        return kept;
+    }
+
+    /**
+     * Enlarges every column.
+     *
+     * @param capacity  the new number of rows each column can hold
+     */
+    private void grow(int capacity)
+    {
+        years = Arrays.copyOf(years, capacity);
+        pressures = Arrays.copyOf(pressures, capacity);
+        speeds = Arrays.copyOf(speeds, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        months = Arrays.copyOf(months, capacity);
+        nameIds = Arrays.copyOf(nameIds, capacity);
+    }
+
+    /**
+     * Figures out the category of every row again on a different scale.
+     * The categories go into a new array, so arrays handed out earlier
+     * keep the old categories.
+     *
+     * @param scale  the hurricane scale to use; it may have no more than
+     *               HurricaneStats.CATEGORY_COUNT categories
+     */
+    public void reclassify(HurricaneCategoryScale scale)
+    {
+        if (scale.getCategoryCount() > HurricaneStats.CATEGORY_COUNT)
+            throw new IllegalArgumentException("Too many categories in "
+                + scale);
+        materialize();
+        int[] reclassified = new int[categories.length];
+        scale.categorize(speeds, size, reclassified);
+        categories = reclassified;
+    }
+
+    /**
+     * Finds the code of a month, adding it if it has not been seen.
+     *
+     * @param month  month in String format
+     * @return the month's code
+     */
+    public int monthCode(String month)
+    {
+        return checkMonthCode(monthNames.id(month));
+    }
+
+    /**
+     * Finds the code of a month given as ASCII bytes, adding it if it has
+     * not been seen.  No objects are created for a known month.
+     *
+     * @param bytes   holds the month
+     * @param offset  index of the month's first byte
+     * @param length  number of bytes in the month
+     * @return the month's code
+     */
+    public int monthCode(byte[] bytes, int offset, int length)
+    {
+        return checkMonthCode(monthNames.id(bytes, offset, length));
+    }
+
+    /**
+     * Makes sure a month code fits in the byte column.
+     *
+     * @param code  the month code
+     * @return the same code
+     */
+    private static int checkMonthCode(int code)
+    {
+        if (code > Byte.MAX_VALUE)
+            throw new IllegalArgumentException("Too many distinct months");
+        return code;
+    }
+
+    /**
+     * Finds the dictionary id of a name, adding it if it has not been seen.
+     *
+     * @param name  hurricane's name
+     * @return the name's dictionary id
+     */
+    public int nameId(String name)
+    {
+        return names.id(name);
+    }
+
+    /**
+     * Finds the dictionary id of a name given as ASCII bytes, adding it if
+     * it has not been seen.  No objects are created for a known name.
+     *
+     * @param bytes   holds the name
+     * @param offset  index of the name's first byte
+     * @param length  number of bytes in the name
+     * @return the name's dictionary id
+     */
+    public int nameId(byte[] bytes, int offset, int length)
+    {
+        return names.id(bytes, offset, length);
+    }
+
+    /**
+     * Looks up the dictionary id of a name without adding it.
+     *
+     * @param name  hurricane's name
+     * @return the name's dictionary id, or -1 if no row has the name
+     */
+    public int findNameId(String name)
+    {
+        return names.find(name);
+    }
+
+    /**
+     * Creates a Hurricane for a row, with the row's category on whatever
+     * scale the columns use.  Every Hurricane made from these columns
+     * shares the same month and name Strings.
+     *
+     * @param row  the row number; 0 <= row < size()
+     * @return a Hurricane holding the row's values
+     */
+    public Hurricane toHurricane(int row)
+    {
+        return new Hurricane(getYear(row), getMonth(row), getPressure(row),
+            getSpeed(row), getName(row), getCategory(row));
+    }
+
+    /**
+     * Creates a Hurricane for every row.
+     *
+     * @return the hurricanes in row order
+     */
+    public Hurricane[] toHurricanes()
+    {
+        Hurricane[] hurs = new Hurricane[size];
+        for (int row = 0; row < size; row++)
+            hurs[row] = toHurricane(row);
+        return hurs;
+    }
+
+    /**
+     * Retrieves the number of rows.
+     *
+     * @return number of rows
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of distinct names.
+     *
+     * @return number of names in the dictionary
+     */
+    public int nameCount()
+    {
+        return names.size();
+    }
+
+    /**
+     * Retrieves the number of distinct months.
+     *
+     * @return number of month codes in use
+     */
+    public int monthCount()
+    {
+        return monthNames.size();
+    }
+
+    /**
+     * Retrieves the month with a month code.
+     *
+     * @param code  the month code; 0 <= code < monthCount()
+     * @return the month in String format
+     */
+    public String monthOf(int code)
+    {
+        return monthNames.get(code);
+    }
+
+    /**
+     * Ranks the names alphabetically.
+     *
+     * @return an array where index id holds the alphabetical position of
+     *         the name with that dictionary id
+     */
+    public int[] nameRanks()
+    {
+        Integer[] ids = new Integer[names.size()];
+        for (int id = 0; id < ids.length; id++)
+        {
+            ids[id] = id;
+        }
+        Arrays.sort(ids, (a, b) -> names.get(a).compareTo(names.get(b)));
+        int[] ranks = new int[ids.length];
+        for (int rank = 0; rank < ids.length; rank++)
+        {
+            ranks[ids[rank]] = rank;
+        }
+        return ranks;
+    }
+
+    /**
+     * Retrieves the name with a dictionary id.
+     *
+     * @param id  the dictionary id; 0 <= id < nameCount()
+     * @return the name
+     */
+    public String nameOf(int id)
+    {
+        return names.get(id);
+    }
+
+    /**
+     * Retrieves the year of a row.
+     *
+     * @param row  the row number
+     * @return year of the hurricane
+     */
+    public int getYear(int row)
+    {
+        if (mapped)
+            return mappedYears.get(row);
+        return years[row];
+    }
+
+    /**
+     * Retrieves the month of a row.
+     *
+     * @param row  the row number
+     * @return month of the hurricane
+     */
+    public String getMonth(int row)
+    {
+        return monthNames.get(getMonthCode(row));
+    }
+
+    /**
+     * Retrieves the month code of a row.  Codes 0 through 11 are January
+     * through December.
+     *
+     * @param row  the row number
+     * @return month code of the hurricane
+     */
+    public int getMonthCode(int row)
+    {
+        if (mapped)
+            return mappedMonths.get(row);
+        return months[row];
+    }
+
+    /**
+     * Retrieves the pressure of a row.
+     *
+     * @param row  the row number
+     * @return pressure of the hurricane
+     */
+    public int getPressure(int row)
+    {
+        if (mapped)
+            return mappedPressures.get(row);
+        return pressures[row];
+    }
+
+    /**
+     * Retrieves the speed of a row.
+     *
+     * @param row  the row number
+     * @return speed of the hurricane in knots
+     */
+    public int getSpeed(int row)
+    {
+        if (mapped)
+            return mappedSpeeds.get(row);
+        return speeds[row];
+    }
+
+    /**
+     * Retrieves the category of a row.
+     *
+     * @param row  the row number
+     * @return category of the hurricane
+     */
+    public int getCategory(int row)
+    {
+        if (mapped)
+            return mappedCategories.get(row);
+        return categories[row];
+    }
+
+    /**
+     * Retrieves the name of a row.
+     *
+     * @param row  the row number
+     * @return name of the hurricane
+     */
+    public String getName(int row)
+    {
+        return names.get(getNameId(row));
+    }
+
+    /**
+     * Retrieves the name dictionary id of a row.
+     *
+     * @param row  the row number
+     * @return name id of the hurricane
+     */
+    public int getNameId(int row)
+    {
+        if (mapped)
+            return mappedNameIds.get(row);
+        return nameIds[row];
+    }
+
+    // Backing arrays for tight loops.  Only the first size() entries are
+    // used.  A column still in a mapped file is copied out the first time.
+
+    synchronized int[] yearColumn()
+    {
+        if (years == null)
+            years = copy(mappedYears);
+        return years;
+    }
+
+    synchronized int[] pressureColumn()
+    {
+        if (pressures == null)
+            pressures = copy(mappedPressures);
+        return pressures;
+    }
+
+    synchronized int[] speedColumn()
+    {
+        if (speeds == null)
+            speeds = copy(mappedSpeeds);
+        return speeds;
+    }
+
+    synchronized int[] categoryColumn()
+    {
+        if (categories == null)
+        {
+            categories = new int[size];
+            for (int row = 0; row < size; row++)
+            {
+                categories[row] = mappedCategories.get(row);
+            }
+        }
+        return categories;
+    }
+
+    synchronized byte[] monthColumn()
+    {
+        if (months == null)
+        {
+            months = new byte[size];
+            mappedMonths.duplicate().get(months);
+        }
+        return months;
+    }
+
+    synchronized int[] nameIdColumn()
+    {
+        if (nameIds == null)
+            nameIds = copy(mappedNameIds);
+        return nameIds;
+    }
+
+    /**
+     * Copies a mapped int column into an array in one transfer.
+     *
+     * @param column  the column
+     * @return the column's values
+     */
+    private int[] copy(IntBuffer column)
+    {
+        int[] values = new int[size];
+        column.duplicate().get(values);
+        return values;
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * Holds the values of the current record of a HurricaneStream.  The
+ * stream fills the same cursor with each record in turn, so reading a
+ * file creates no object per record; call toHurricane to keep a record
+ * after the stream moves on.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneCursor
+{
+    private HurricaneColumns dictionaries;
+    private HurricaneCategoryScale scale;
+    private int year;
+    private int monthCode;
+    private int pressure;
+    private int speed;
+    private int category;
+    private int nameId;
+
+    /**
+     * Initializes a cursor whose months and names are looked up in the
+     * dictionaries of a set of columns.
+     *
+     * @param dictionaries  holds the month and name dictionaries
+     * @param scale         the scale the categories are on
+     */
+    HurricaneCursor(HurricaneColumns dictionaries, HurricaneCategoryScale scale)
+    {
+        this.dictionaries = dictionaries;
+        this.scale = scale;
+    }
+
+    /**
+     * Moves the cursor to a new record.
+     *
+     * @param year       year the hurricane took place
+     * @param monthCode  code of the month in the dictionaries
+     * @param pressure   hurricane's pressure
+     * @param speed      hurricane's speed in knots
+     * @param category   hurricane's category
+     * @param nameId     dictionary id of the name
+     */
+    void set(int year, int monthCode, int pressure, int speed, int category,
+        int nameId)
+    {
+        this.year = year;
+        this.monthCode = monthCode;
+        this.pressure = pressure;
+        this.speed = speed;
+        this.category = category;
+        this.nameId = nameId;
+    }
+
+    /**
+     * Retrieves a field of the record as an integer, the same way as
+     * HurricaneKey.valueOf.
+     *
+     * @param key  the field to retrieve
+     * @return the field's value
+     */
+    public int valueOf(HurricaneKey key)
+    {
+        switch (key)
+        {
+            case YEAR:
+                return year;
+            case MONTH:
+                return monthCode;
+            case NAME:
+                return nameId;
+            case CATEGORY:
+                return category;
+            case PRESSURE:
+                return pressure;
+            default:
+                return speed;
+        }
+    }
+
+    /**
+     * Creates a Hurricane holding the record's values.
+     *
+     * @return a new Hurricane
+     */
+    public Hurricane toHurricane()
+    {
+        Hurricane h = new Hurricane(year, getMonth(), pressure, speed,
+            getName());
+        if (scale != HurricaneCategoryScale.SAFFIR_SIMPSON)
+            h.reclassify(scale);
+        return h;
+    }
+
+    /**
+     * Retrieves the year of the record.
+     *
+     * @return year of the hurricane
+     */
+    public int getYear()
+    {
+        return year;
+    }
+
+    /**
+     * Retrieves the month of the record.
+     *
+     * @return month of the hurricane
+     */
+    public String getMonth()
+    {
+        return dictionaries.monthOf(monthCode);
+    }
+
+    /**
+     * Retrieves the pressure of the record.
+     *
+     * @return pressure of the hurricane
+     */
+    public int getPressure()
+    {
+        return pressure;
+    }
+
+    /**
+     * Retrieves the speed of the record.
+     *
+     * @return speed of the hurricane in knots
+     */
+    public int getSpeed()
+    {
+        return speed;
+    }
+
+    /**
+     * Retrieves the category of the record.
+     *
+     * @return category of the hurricane
+     */
+    public int getCategory()
+    {
+        return category;
+    }
+
+    /**
+     * Retrieves the name of the record.
+     *
+     * @return name of the hurricane
+     */
+    public String getName()
+    {
+        return dictionaries.nameOf(nameId);
+    }
+}
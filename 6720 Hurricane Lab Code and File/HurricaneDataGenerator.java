@@ -0,0 +1,103 @@
+import java.io.*;
+import java.util.*;
+
+/**
+ * Generates random hurricane data with the same fields and value ranges
+ * as hurricanedata.txt, for timing the organizer on large inputs.
+ * The same seed always produces the same data.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneDataGenerator
+{
+    private static final String[] MONTHS = {"Jun", "Jul", "Aug", "Sep",
+        "Oct", "Nov"};
+    private static final String[] NAMES = {"Allen", "Alicia", "Andrew",
+        "Bob", "Bonnie", "Charley", "Chantal", "Danny", "Dean", "Diana",
+        "Elena", "Emily", "Erin", "Felix", "Floyd", "Florence", "Frances",
+        "Gilbert", "Gloria", "Gustav", "Hugo", "Humberto", "Ike", "Isabel",
+        "Ivan", "Jerry", "Juan", "Katrina", "Kate", "Lili", "Luis", "Marilyn",
+        "Michael", "Mitch", "Opal", "Rita", "Roxanne", "Wilma"};
+
+    private Random random;
+
+    /**
+     * Initializes a generator.
+     *
+     * @param seed  seed for the random values
+     */
+    public HurricaneDataGenerator(long seed)
+    {
+        random = new Random(seed);
+    }
+
+    /**
+     * Generates one hurricane's values and adds them to a set of columns.
+     * Stronger winds come with lower pressures, as in the real data.
+     *
+     * @param columns  receives the hurricane
+     */
+    private void addOne(HurricaneColumns columns)
+    {
+        int year = 1851 + random.nextInt(175);
+        String month = MONTHS[random.nextInt(MONTHS.length)];
+        int speed = 64 + random.nextInt(97);
+        int pressure = 1010 - (speed - 60) + random.nextInt(31) - 15;
+        pressure = Math.max(880, Math.min(1010, pressure));
+        String name = NAMES[random.nextInt(NAMES.length)];
+        columns.add(year, month, pressure, speed,
+            HurricaneCategoryScale.SAFFIR_SIMPSON.categoryOf(speed), name);
+    }
+
+    /**
+     * Generates a number of hurricanes as columns.
+     *
+     * @param count  number of hurricanes to generate
+     * @return the generated hurricanes
+     */
+    public HurricaneColumns generate(int count)
+    {
+        HurricaneColumns columns = new HurricaneColumns(count);
+        for (int i = 0; i < count; i++)
+        {
+            addOne(columns);
+        }
+        return columns;
+    }
+
+    /**
+     * Writes a number of hurricanes to a text file in the format of
+     * hurricanedata.txt.
+     *
+     * @param filename  the file to write
+     * @param count     number of hurricanes to write
+     *
+     * @throws IOException  if the file cannot be written
+     */
+    public void writeFile(String filename, int count) throws IOException
+    {
+        HurricaneColumns columns = generate(count);
+        Writer out = new BufferedWriter(new FileWriter(filename), 1 << 16);
+        try
+        {
+            for (int row = 0; row < columns.size(); row++)
+            {
+                out.write(Integer.toString(columns.getYear(row)));
+                out.write(' ');
+                out.write(columns.getMonth(row));
+                out.write('\t');
+                out.write(Integer.toString(columns.getPressure(row)));
+                out.write('\t');
+                out.write(Integer.toString(columns.getSpeed(row)));
+                out.write('\t');
+                out.write(columns.getName(row));
+                out.write("\r\n");
+            }
+        }
+        finally
+        {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+import java.util.concurrent.atomic.*;
+
+/**
+ * An unchanging snapshot of the hurricanes held by an organizer.  Any
+ * number of threads can read a snapshot at once, each in whatever order
+ * it likes, since an ordering is an array of row numbers rather than a
+ * rearranged array of records.
+ *
+ * The order for each key and direction is sorted the first time it is
+ * asked for and then kept.  Orders are published without locking: two
+ * threads that ask for a new order at the same moment may both sort it,
+ * and the first one stored is the one every thread then uses.
+ *
+ * Searches by year and by name read the snapshot's own copy of the
+ * organizer's indexes, so every query a snapshot answers sees the same
+ * rows.
+ *
+ * A snapshot shares the organizer's column arrays and index row lists.
+ * This is safe because the organizer never changes a row once it is
+ * added; new rows go past the end of the snapshot and reclassifying
+ * makes a new category array.  Hurricane objects are made only when a
+ * caller asks for one.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneDataset
+{
+    private final HurricaneColumns columns;
+    private final HurricaneIndex yearIndex;
+    private final HurricaneIndex nameIndex;
+    private final AtomicReferenceArray<int[]> orders;
+    private final AtomicReference<HurricaneStats> stats;
+
+    /**
+     * Initializes a snapshot.
+     *
+     * @param columns    the hurricane data; never added to
+     * @param yearIndex  the rows of each year; never added to
+     * @param nameIndex  the rows of each name id; never added to
+     */
+    HurricaneDataset(HurricaneColumns columns, HurricaneIndex yearIndex,
+        HurricaneIndex nameIndex)
+    {
+        this.columns = columns;
+        this.yearIndex = yearIndex;
+        this.nameIndex = nameIndex;
+        orders = new AtomicReferenceArray<int[]>(
+            2 * HurricaneKey.values().length);
+        stats = new AtomicReference<HurricaneStats>();
+    }
+
+    /**
+     * Retrieves the number of hurricanes.
+     *
+     * @return number of hurricanes
+     */
+    public int size()
+    {
+        return columns.size();
+    }
+
+    /**
+     * Creates the Hurricane of a row.
+     *
+     * @param row  the row number, in the order the hurricanes were loaded
+     * @return a new Hurricane holding the row's values
+     */
+    public Hurricane get(int row)
+    {
+        if (row < 0 || row >= size())
+            throw new IndexOutOfBoundsException("Row: " + row
+                + ", Size: " + size());
+        return columns.toHurricane(row);
+    }
+
+    /**
+     * Lists every hurricane in the order they were loaded.
+     *
+     * @return a view of all the hurricanes
+     */
+    public HurricaneView all()
+    {
+        int[] rows = new int[size()];
+        for (int row = 0; row < rows.length; row++)
+        {
+            rows[row] = row;
+        }
+        return new HurricaneView(columns, rows);
+    }
+
+    /**
+     * Lists the hurricanes in order of a key.  The order is sorted once
+     * and shared by every later call.
+     *
+     * @param key         the key to sort by
+     * @param descending  true to put the largest values first
+     * @return a view of the sorted hurricanes; hurricanes that tie are in
+     *         the order they were loaded
+     */
+    public HurricaneView sorted(HurricaneKey key, boolean descending)
+    {
+        int slot = 2 * key.ordinal() + (descending ? 1 : 0);
+        int[] rows = orders.get(slot);
+        if (rows == null)
+        {
+            rows = HurricaneSorter.sortRows(columns, new HurricaneKey[] {key},
+                new boolean[] {descending});
+            if (!orders.compareAndSet(slot, null, rows))
+                rows = orders.get(slot);
+        }
+        return new HurricaneView(columns, rows);
+    }
+
+    /**
+     * Lists the hurricanes of a year.
+     *
+     * @param year  the year to search for
+     * @return a view of the hurricanes in the year, in the order they
+     *         were loaded; empty if there are none
+     */
+    public HurricaneView searchYear(int year)
+    {
+        return yearIndex.view(columns, year);
+    }
+
+    /**
+     * Lists the hurricanes with a name.
+     *
+     * @param name  the name to search for
+     * @return a view of the hurricanes with the name, in the order they
+     *         were loaded; empty if there are none
+     */
+    public HurricaneView searchName(String name)
+    {
+        int id = columns.findNameId(name);
+        if (id < 0)
+            return new HurricaneView(columns, new int[0]);
+        return nameIndex.view(columns, id);
+    }
+
+    /**
+     * Retrieves the statistics of all the hurricanes, computing them the
+     * first time they are needed.
+     *
+     * @return statistics of all the hurricanes
+     */
+    public HurricaneStats getStats()
+    {
+        HurricaneStats computed = stats.get();
+        if (computed == null)
+        {
+            computed = HurricaneStats.of(columns);
+            if (!stats.compareAndSet(null, computed))
+                computed = stats.get();
+        }
+        return computed;
+    }
+}
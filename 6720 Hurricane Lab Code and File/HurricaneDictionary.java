@@ -0,0 +1,193 @@
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Gives each distinct String, such as a hurricane name or month, a small
+ * integer id.  Entries are kept in an open-addressing hash table, and an
+ * entry can be looked up straight from the ASCII bytes of a file, so a
+ * String is only created the first time a value is seen.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneDictionary
+{
+    private ArrayList<String> values;
+    private int[] hashes;
+    private int[] slots;
+
+    /**
+     * Initializes an empty dictionary.
+     */
+    public HurricaneDictionary()
+    {
+        values = new ArrayList<String>();
+        hashes = new int[16];
+        slots = new int[32];
+    }
+
+    /**
+     * Finds the id of a value, adding it if it has not been seen.
+     *
+     * @param value  the value to look up
+     * @return the value's id
+     */
+    public int id(String value)
+    {
+        int id = find(value);
+        if (id < 0)
+            id = add(value, value.hashCode());
+        return id;
+    }
+
+    /**
+     * Finds the id of a value given as ASCII bytes, adding it if it has
+     * not been seen.  No objects are created unless the value is new.
+     *
+     * @param bytes   holds the value
+     * @param offset  index of the value's first byte
+     * @param length  number of bytes in the value
+     * @return the value's id
+     */
+    public int id(byte[] bytes, int offset, int length)
+    {
+        int hash = 0;
+        for (int i = 0; i < length; i++)
+        {
+            hash = 31 * hash + (bytes[offset + i] & 0xFF);
+        }
+        int slot = firstSlot(hash);
+        while (slots[slot] != 0)
+        {
+            int id = slots[slot] - 1;
+            if (hashes[id] == hash
+                && matches(values.get(id), bytes, offset, length))
+                return id;
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        String value = new String(bytes, offset, length,
+            StandardCharsets.ISO_8859_1);
+        return add(value, hash);
+    }
+
+    /**
+     * Looks up the id of a value without adding it.
+     *
+     * @param value  the value to look up
+     * @return the value's id, or -1 if it has not been seen
+     */
+    public int find(String value)
+    {
+        int hash = value.hashCode();
+        int slot = firstSlot(hash);
+        while (slots[slot] != 0)
+        {
+            int id = slots[slot] - 1;
+            if (hashes[id] == hash && values.get(id).equals(value))
+                return id;
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Determines whether a String holds the same characters as some bytes.
+     *
+     * @param value   the String to compare
+     * @param bytes   holds the other value
+     * @param offset  index of the other value's first byte
+     * @param length  number of bytes in the other value
+     * @return true if they match; otherwise, false
+     */
+    private static boolean matches(String value, byte[] bytes, int offset,
+        int length)
+    {
+        if (value.length() != length)
+            return false;
+        for (int i = 0; i < length; i++)
+        {
+            if (value.charAt(i) != (bytes[offset + i] & 0xFF))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Adds a new value.
+     *
+     * @param value  the value, which is not in the dictionary yet
+     * @param hash   the value's hash code
+     * @return the new id
+     */
+    private int add(String value, int hash)
+    {
+        int id = values.size();
+        values.add(value);
+        if (id == hashes.length)
+            hashes = Arrays.copyOf(hashes, id * 2);
+        hashes[id] = hash;
+        if (2 * values.size() > slots.length)
+            rehash();
+        else
+            place(id);
+        return id;
+    }
+
+    /**
+     * Finds the slot where the search for a hash begins.  The high bits
+     * of the hash are mixed in, since names often differ only at the end.
+     *
+     * @param hash  the hash code
+     * @return the first slot to check
+     */
+    private int firstSlot(int hash)
+    {
+        return (hash ^ (hash >>> 16)) & (slots.length - 1);
+    }
+
+    /**
+     * Puts an id into the first free slot for its hash.
+     *
+     * @param id  the id to place
+     */
+    private void place(int id)
+    {
+        int slot = firstSlot(hashes[id]);
+        while (slots[slot] != 0)
+            slot = (slot + 1) & (slots.length - 1);
+        slots[slot] = id + 1;
+    }
+
+    /**
+     * Doubles the hash table and places every id again.
+     */
+    private void rehash()
+    {
+        slots = new int[slots.length * 2];
+        for (int id = 0; id < values.size(); id++)
+        {
+            place(id);
+        }
+    }
+
+    /**
+     * Retrieves the value with an id.
+     *
+     * @param id  the id; 0 <= id < size()
+     * @return the value
+     */
+    public String get(int id)
+    {
+        return values.get(id);
+    }
+
+    /**
+     * Retrieves the number of distinct values.
+     *
+     * @return number of values
+     */
+    public int size()
+    {
+        return values.size();
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Finds ranges of equal keys in a sorted array of integers.  The keys are
+ * stored in Eytzinger order, the order of a breadth-first walk of the
+ * binary search tree: the root is at index 1 and the children of index k
+ * are at 2k and 2k + 1.  The first few levels of the tree, which every
+ * search passes through, sit together in a few cache lines, and each
+ * step of a search goes to a slot whose position is known in advance,
+ * so the search has no hard-to-predict branch.
+ *
+ * The first and last positions of a key come from two searches, however
+ * many copies of the key there are.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneEytzinger
+{
+    private int size;
+    private int[] tree;
+    private int[] positions;
+
+    /**
+     * Initializes a search over the start of a sorted array.  The array
+     * is copied.
+     *
+     * @param sorted  the keys, in non-decreasing order
+     * @param n       number of keys to use from the start of the array
+     */
+    public HurricaneEytzinger(int[] sorted, int n)
+    {
+        size = n;
+        tree = new int[n + 1];
+        positions = new int[n + 1];
+        build(sorted, 0, 1);
+    }
+
+    /**
+     * Fills a subtree with keys from the sorted array by an in-order walk.
+     *
+     * @param sorted  the keys, in non-decreasing order
+     * @param next    position in sorted of the next key to place
+     * @param k       index of the subtree's root in the tree
+     * @return position in sorted of the first key not placed
+     */
+    private int build(int[] sorted, int next, int k)
+    {
+        if (k > size)
+            return next;
+        next = build(sorted, next, 2 * k);
+        tree[k] = sorted[next];
+        positions[k] = next;
+        next++;
+        return build(sorted, next, 2 * k + 1);
+    }
+
+    /**
+     * Retrieves the number of keys.
+     *
+     * @return number of keys
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Finds the first position whose key is not less than a key.
+     *
+     * @param key  the key to look for
+     * @return the position in the sorted array, or size() if every key
+     *         is less
+     */
+    public int lowerBound(int key)
+    {
+        int k = 1;
+        while (k <= size)
+            k = 2 * k + (tree[k] < key ? 1 : 0);
+        return toPosition(k);
+    }
+
+    /**
+     * Finds the first position whose key is greater than a key.
+     *
+     * @param key  the key to look for
+     * @return the position in the sorted array, or size() if no key is
+     *         greater
+     */
+    public int upperBound(int key)
+    {
+        int k = 1;
+        while (k <= size)
+            k = 2 * k + (tree[k] <= key ? 1 : 0);
+        return toPosition(k);
+    }
+
+    /**
+     * Turns the slot a search fell out of the tree at into a position.
+     * The search went right at every trailing 1 bit of k; undoing those
+     * steps and the last step left gives the node where it last went left,
+     * which holds the answer.
+     *
+     * @param k  the index past the bottom of the tree where a search ended
+     * @return the position in the sorted array, or size() if the search
+     *         never went left
+     */
+    private int toPosition(int k)
+    {
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k == 0 ? size : positions[k];
+    }
+}
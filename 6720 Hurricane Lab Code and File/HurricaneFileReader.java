@@ -0,0 +1,269 @@
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Loads hurricane records from a text file in a single pass.
+ * The file is read once into a growable byte buffer and then split into
+ * records by a hand-written tokenizer, so the file is never scanned twice
+ * and no Scanner regular expressions are involved.
+ *
+ * Lines are split into fields by a HurricaneTokenizer, and months and
+ * names are looked up in the column dictionaries straight from the bytes,
+ * so a record whose month and name have been seen before creates no
+ * objects.
+ *
+ * Large files can be parsed in parallel.  The buffer is cut into chunks
+ * that each end at a line break, the chunks are parsed on the common
+ * fork-join pool, and the results are joined in file order.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneFileReader
+{
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final int INITIAL_RECORD_COUNT = 64;
+
+    /**
+     * Parallel parsing never makes chunks smaller than this many bytes.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * Number of chunks made for each thread, so threads that finish early
+     * can take more work.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private byte[] data;
+    private int length;
+
+    private long readNanos;
+    private long parseNanos;
+
+    /**
+     * Initializes a reader with an empty buffer.
+     */
+    public HurricaneFileReader()
+    {
+        data = new byte[INITIAL_BUFFER_SIZE];
+    }
+
+    /**
+     * Reads and parses a whole hurricane file on the current thread.
+     *
+     * @param filename  file name to be read
+     * @return the hurricanes as columns, in the order they appear in the file
+     *
+     * @throws IOException  if the file is not found or a line is malformed
+     */
+    public HurricaneColumns read(String filename) throws IOException
+    {
+        return read(filename, false);
+    }
+
+    /**
+     * Reads and parses a whole hurricane file.
+     *
+     * @param filename  file name to be read
+     * @param parallel  true to parse chunks of the file on several threads
+     * @return the hurricanes as columns, in the order they appear in the file
+     *
+     * @throws IOException  if the file is not found or a line is malformed
+     */
+    public HurricaneColumns read(String filename, boolean parallel)
+        throws IOException
+    {
+        long start = System.nanoTime();
+        readBytes(filename);
+        long parsed = System.nanoTime();
+        readNanos = parsed - start;
+        HurricaneColumns columns;
+        if (parallel)
+            columns = parseParallel();
+        else
+            columns = new ChunkParser(data, 0, length).parse();
+        parseNanos = System.nanoTime() - parsed;
+        return columns;
+    }
+
+    /**
+     * Reads every byte of the file into the buffer, doubling the buffer
+     * whenever it fills up.
+     *
+     * @param filename  file name to be read
+     *
+     * @throws IOException  if file is not found
+     */
+    private void readBytes(String filename) throws IOException
+    {
+        length = 0;
+        InputStream in = new FileInputStream(filename);
+        try
+        {
+            int n;
+            while ((n = in.read(data, length, data.length - length)) != -1)
+            {
+                length += n;
+                if (length == data.length)
+                {
+                    byte[] bigger = new byte[data.length * 2];
+                    System.arraycopy(data, 0, bigger, 0, length);
+                    data = bigger;
+                }
+            }
+        }
+        finally
+        {
+            in.close();
+        }
+    }
+
+    /**
+     * Parses the buffer as several chunks at once on the common fork-join
+     * pool and joins the results in file order.
+     *
+     * @return the parsed hurricanes
+     *
+     * @throws IOException  if a line is malformed
+     */
+    private HurricaneColumns parseParallel() throws IOException
+    {
+        int threads = ForkJoinPool.getCommonPoolParallelism();
+        if (threads <= 1)
+            return new ChunkParser(data, 0, length).parse();
+        int chunkSize = Math.max(MIN_CHUNK_SIZE,
+            length / (threads * CHUNKS_PER_THREAD) + 1);
+        List<ChunkParser> chunks = new ArrayList<ChunkParser>();
+        int start = 0;
+        while (start < length)
+        {
+            int end = Math.min(length, start + chunkSize);
+            while (end < length && data[end - 1] != '\n')
+                end++;
+            chunks.add(new ChunkParser(data, start, end));
+            start = end;
+        }
+        if (chunks.size() <= 1)
+            return new ChunkParser(data, 0, length).parse();
+
+        ForkJoinTask.invokeAll(chunks);
+        int total = 0;
+        for (ChunkParser chunk : chunks)
+        {
+            total += chunk.getColumns().size();
+        }
+        HurricaneColumns columns = new HurricaneColumns(total);
+        for (ChunkParser chunk : chunks)
+        {
+            columns.addAll(chunk.getColumns());
+        }
+        return columns;
+    }
+
+    /**
+     * Parses the records in one range of the buffer.  The range must start
+     * at the beginning of a line and end just after a line break or at the
+     * end of the buffer.
+     */
+    private static class ChunkParser extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private byte[] data;
+        private int start;
+        private int end;
+        private HurricaneColumns columns;
+        private IOException error;
+
+        /**
+         * Initializes a parser for a range of the buffer.
+         *
+         * @param data   the whole file
+         * @param start  the first byte of the range
+         * @param end    one past the last byte of the range
+         */
+        ChunkParser(byte[] data, int start, int end)
+        {
+            this.data = data;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Parses the range when run on a fork-join pool.  A malformed line
+         * is kept and reported by getColumns.
+         */
+        protected void compute()
+        {
+            try
+            {
+                parse();
+            }
+            catch (IOException e)
+            {
+                error = e;
+            }
+        }
+
+        /**
+         * Retrieves the hurricanes parsed by compute.
+         *
+         * @return the parsed hurricanes
+         *
+         * @throws IOException  if a line in the range was malformed
+         */
+        HurricaneColumns getColumns() throws IOException
+        {
+            if (error != null)
+                throw error;
+            return columns;
+        }
+
+        /**
+         * Splits the range into hurricane records.  Blank lines are skipped.
+         *
+         * @return the parsed hurricanes
+         *
+         * @throws IOException  if a line is malformed
+         */
+        HurricaneColumns parse() throws IOException
+        {
+            HurricaneCategoryScale scale = HurricaneCategoryScale.SAFFIR_SIMPSON;
+            HurricaneTokenizer tokens = new HurricaneTokenizer();
+            tokens.reset(data, start, end, 0, 1);
+            columns = new HurricaneColumns(INITIAL_RECORD_COUNT);
+            while (tokens.skipBlankLines())
+            {
+                int year = tokens.nextInt();
+                int month = tokens.nextMonth(columns);
+                int pressure = tokens.nextInt();
+                int speed = tokens.nextInt();
+                columns.add(year, month, pressure, speed,
+                    scale.categoryOf(speed), tokens.restOfLineName(columns));
+            }
+            return columns;
+        }
+    }
+
+    /**
+     * Retrieves how long the last read spent loading bytes from disk.
+     *
+     * @return time spent reading, in nanoseconds
+     */
+    public long getReadNanos()
+    {
+        return readNanos;
+    }
+
+    /**
+     * Retrieves how long the last read spent parsing records.
+     *
+     * @return time spent parsing, in nanoseconds
+     */
+    public long getParseNanos()
+    {
+        return parseNanos;
+    }
+}
@@ -0,0 +1,339 @@
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Groups hurricanes by the value of a key, such as the year, month or
+ * category, and gathers the count, average pressure and maximum speed of
+ * each group in one pass over the data.
+ *
+ * Groups are kept in an open-addressing hash table of primitive arrays
+ * indexed by slot, so adding a row never creates an object.  A parallel
+ * pass builds one table per range of rows on the common fork-join pool
+ * and merges the tables as the ranges are joined.
+ *
+ * Once built, groups are numbered from 0 in increasing order of key.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneGroupBy
+{
+    private static final int INITIAL_SLOTS = 16;
+
+    /**
+     * Parallel grouping never gives a task fewer rows than this.
+     */
+    private static final int MIN_TASK_ROWS = 1 << 16;
+
+    private int[] keys;
+    private int[] counts;
+    private long[] pressureTotals;
+    private int[] maxSpeeds;
+    private int size;
+    private int[] order;
+
+    /**
+     * Initializes an empty table.
+     */
+    private HurricaneGroupBy()
+    {
+        allocate(INITIAL_SLOTS);
+    }
+
+    /**
+     * Groups every row of a set of columns on the current thread.
+     *
+     * @param columns  the hurricane data
+     * @param key      the key to group by
+     * @return the groups
+     */
+    public static HurricaneGroupBy of(HurricaneColumns columns, HurricaneKey key)
+    {
+        return of(columns, key, false);
+    }
+
+    /**
+     * Groups every row of a set of columns.
+     *
+     * @param columns   the hurricane data
+     * @param key       the key to group by
+     * @param parallel  true to group ranges of rows on several threads
+     * @return the groups
+     */
+    public static HurricaneGroupBy of(HurricaneColumns columns, HurricaneKey key,
+        boolean parallel)
+    {
+        int n = columns.size();
+        HurricaneGroupBy groups;
+        if (parallel && ForkJoinPool.getCommonPoolParallelism() > 1
+            && n >= 2 * MIN_TASK_ROWS)
+        {
+            int taskRows = Math.max(MIN_TASK_ROWS,
+                n / (ForkJoinPool.getCommonPoolParallelism() * 4) + 1);
+            groups = ForkJoinPool.commonPool().invoke(
+                new GroupTask(columns, key, 0, n, taskRows));
+        }
+        else
+        {
+            groups = new HurricaneGroupBy();
+            groups.addRows(columns, key, 0, n);
+        }
+        groups.finish();
+        return groups;
+    }
+
+    /**
+     * Groups one range of rows, splitting it in half while it is large.
+     */
+    private static class GroupTask extends RecursiveTask<HurricaneGroupBy>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private HurricaneColumns columns;
+        private HurricaneKey key;
+        private int from;
+        private int to;
+        private int taskRows;
+
+        /**
+         * Initializes a task for a range of rows.
+         *
+         * @param columns   the hurricane data
+         * @param key       the key to group by
+         * @param from      the first row of the range
+         * @param to        one past the last row of the range
+         * @param taskRows  ranges no longer than this are not split
+         */
+        GroupTask(HurricaneColumns columns, HurricaneKey key, int from, int to,
+            int taskRows)
+        {
+            this.columns = columns;
+            this.key = key;
+            this.from = from;
+            this.to = to;
+            this.taskRows = taskRows;
+        }
+
+        /**
+         * Groups the range, merging the halves' tables if it was split.
+         *
+         * @return the groups of the range
+         */
+        protected HurricaneGroupBy compute()
+        {
+            if (to - from <= taskRows)
+            {
+                HurricaneGroupBy groups = new HurricaneGroupBy();
+                groups.addRows(columns, key, from, to);
+                return groups;
+            }
+            int mid = (from + to) >>> 1;
+            GroupTask right = new GroupTask(columns, key, mid, to, taskRows);
+            right.fork();
+            HurricaneGroupBy groups = new GroupTask(columns, key, from, mid,
+                taskRows).compute();
+            groups.merge(right.join());
+            return groups;
+        }
+    }
+
+    /**
+     * Adds a range of rows to their groups.
+     *
+     * @param columns  the hurricane data
+     * @param key      the key to group by
+     * @param from     the first row to add
+     * @param to       one past the last row to add
+     */
+    private void addRows(HurricaneColumns columns, HurricaneKey key, int from,
+        int to)
+    {
+        int[] pressures = columns.pressureColumn();
+        int[] speeds = columns.speedColumn();
+        for (int row = from; row < to; row++)
+        {
+            int slot = slot(key.valueOf(columns, row));
+            counts[slot]++;
+            pressureTotals[slot] += pressures[row];
+            if (speeds[row] > maxSpeeds[slot])
+                maxSpeeds[slot] = speeds[row];
+        }
+    }
+
+    /**
+     * Adds the groups of another table to this one.
+     *
+     * @param other  the table to merge in
+     */
+    private void merge(HurricaneGroupBy other)
+    {
+        for (int from = 0; from < other.keys.length; from++)
+        {
+            if (other.counts[from] == 0)
+                continue;
+            int slot = slot(other.keys[from]);
+            counts[slot] += other.counts[from];
+            pressureTotals[slot] += other.pressureTotals[from];
+            maxSpeeds[slot] = Math.max(maxSpeeds[slot], other.maxSpeeds[from]);
+        }
+    }
+
+    /**
+     * Finds the slot of a key, claiming an empty slot if the key has no
+     * group yet.
+     *
+     * @param key  the key's value
+     * @return the key's slot
+     */
+    private int slot(int key)
+    {
+        int mask = keys.length - 1;
+        int slot = firstSlot(key, mask);
+        while (counts[slot] != 0)
+        {
+            if (keys[slot] == key)
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        if (2 * (size + 1) > keys.length)
+        {
+            rehash();
+            return slot(key);
+        }
+        keys[slot] = key;
+        maxSpeeds[slot] = Integer.MIN_VALUE;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Finds the slot where the search for a key begins.  Keys such as
+     * years are close together, so they are spread by a multiplicative
+     * hash.
+     *
+     * @param key   the key's value
+     * @param mask  one less than the number of slots
+     * @return the first slot to check
+     */
+    private static int firstSlot(int key, int mask)
+    {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Makes empty arrays with a number of slots.
+     *
+     * @param slots  number of slots; a power of two
+     */
+    private void allocate(int slots)
+    {
+        keys = new int[slots];
+        counts = new int[slots];
+        pressureTotals = new long[slots];
+        maxSpeeds = new int[slots];
+    }
+
+    /**
+     * Doubles the table and places every group again.
+     */
+    private void rehash()
+    {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        long[] oldPressureTotals = pressureTotals;
+        int[] oldMaxSpeeds = maxSpeeds;
+        allocate(keys.length * 2);
+        int mask = keys.length - 1;
+        for (int from = 0; from < oldKeys.length; from++)
+        {
+            if (oldCounts[from] == 0)
+                continue;
+            int slot = firstSlot(oldKeys[from], mask);
+            while (counts[slot] != 0)
+                slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[from];
+            counts[slot] = oldCounts[from];
+            pressureTotals[slot] = oldPressureTotals[from];
+            maxSpeeds[slot] = oldMaxSpeeds[from];
+        }
+    }
+
+    /**
+     * Numbers the groups in increasing order of key.
+     */
+    private void finish()
+    {
+        long[] packed = new long[size];
+        int n = 0;
+        for (int slot = 0; slot < keys.length; slot++)
+        {
+            if (counts[slot] != 0)
+            {
+                packed[n] = ((long) keys[slot] << 32) | slot;
+                n++;
+            }
+        }
+        Arrays.sort(packed);
+        order = new int[size];
+        for (int group = 0; group < size; group++)
+        {
+            order[group] = (int) packed[group];
+        }
+    }
+
+    /**
+     * Retrieves the number of groups.
+     *
+     * @return number of distinct keys
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Retrieves the key of a group.
+     *
+     * @param group  the group number; 0 <= group < size()
+     * @return the value of the key shared by the group's hurricanes
+     */
+    public int getKey(int group)
+    {
+        return keys[order[group]];
+    }
+
+    /**
+     * Retrieves the number of hurricanes in a group.
+     *
+     * @param group  the group number; 0 <= group < size()
+     * @return number of hurricanes
+     */
+    public int getCount(int group)
+    {
+        return counts[order[group]];
+    }
+
+    /**
+     * Calculates the average pressure of a group.
+     *
+     * @param group  the group number; 0 <= group < size()
+     * @return average pressure
+     */
+    public double getAveragePressure(int group)
+    {
+        int slot = order[group];
+        return (double) pressureTotals[slot] / counts[slot];
+    }
+
+    /**
+     * Retrieves the maximum wind speed of a group.
+     *
+     * @param group  the group number; 0 <= group < size()
+     * @return max wind speed
+     */
+    public int getMaxSpeed(int group)
+    {
+        return maxSpeeds[order[group]];
+    }
+}
@@ -0,0 +1,297 @@
+import java.nio.*;
+
+/**
+ * Maps an integer key, such as a year or a name id, to the rows that
+ * have that key.  Each key keeps its own list of rows in the order they
+ * were added, so finding every row with a key takes O(1) time and adding
+ * a row never disturbs the others.
+ *
+ * Keys are kept in an open-addressing hash table of primitive arrays
+ * indexed by slot, so the table grows with the number of distinct keys
+ * and not with the distance between them; a stray year far from the
+ * rest costs one slot.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneIndex
+{
+    private static final int INITIAL_SLOTS = 16;
+
+    private int[] keys;
+    private int[][] rows;
+    private int[] counts;
+    private int size;
+
+    /**
+     * Initializes an empty index.
+     */
+    public HurricaneIndex()
+    {
+        allocate(INITIAL_SLOTS);
+    }
+
+    /**
+     * Records that a row has a key.
+     *
+     * @param key  the row's key
+     * @param row  the row number
+     */
+    public void add(int key, int row)
+    {
+        int slot = claim(key);
+        if (rows[slot] == null)
+            rows[slot] = new int[4];
+        else if (counts[slot] == rows[slot].length)
+        {
+            int[] bigger = new int[counts[slot] * 2];
+            System.arraycopy(rows[slot], 0, bigger, 0, counts[slot]);
+            rows[slot] = bigger;
+        }
+        rows[slot][counts[slot]] = row;
+        counts[slot]++;
+    }
+
+    /**
+     * Finds the slot of a key, or -1 if the key has no rows.
+     *
+     * @param key  the key to look up
+     * @return the key's slot, or -1
+     */
+    private int find(int key)
+    {
+        int mask = keys.length - 1;
+        int slot = firstSlot(key, mask);
+        while (counts[slot] != 0)
+        {
+            if (keys[slot] == key)
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the slot of a key, claiming an empty slot if the key has no
+     * rows yet.
+     *
+     * @param key  the key
+     * @return the key's slot
+     */
+    private int claim(int key)
+    {
+        int slot = find(key);
+        if (slot >= 0)
+            return slot;
+        if (2 * (size + 1) > keys.length)
+            rehash();
+        int mask = keys.length - 1;
+        slot = firstSlot(key, mask);
+        while (counts[slot] != 0)
+            slot = (slot + 1) & mask;
+        keys[slot] = key;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Finds the slot where the search for a key begins.  Keys such as
+     * years are close together, so they are spread by a multiplicative
+     * hash.
+     *
+     * @param key   the key's value
+     * @param mask  one less than the number of slots
+     * @return the first slot to check
+     */
+    private static int firstSlot(int key, int mask)
+    {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Makes empty arrays with a number of slots.
+     *
+     * @param slots  number of slots; a power of two
+     */
+    private void allocate(int slots)
+    {
+        keys = new int[slots];
+        rows = new int[slots][];
+        counts = new int[slots];
+    }
+
+    /**
+     * Doubles the table and places every key again.  The row lists are
+     * moved, not copied.
+     */
+    private void rehash()
+    {
+        int[] oldKeys = keys;
+        int[][] oldRows = rows;
+        int[] oldCounts = counts;
+        allocate(keys.length * 2);
+        int mask = keys.length - 1;
+        for (int from = 0; from < oldKeys.length; from++)
+        {
+            if (oldCounts[from] == 0)
+                continue;
+            int slot = firstSlot(oldKeys[from], mask);
+            while (counts[slot] != 0)
+                slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[from];
+            rows[slot] = oldRows[from];
+            counts[slot] = oldCounts[from];
+        }
+    }
+
+    /**
+     * Gives every row its new number after rows are removed, dropping
+     * keys left with no rows.  Each row list is replaced rather than
+     * changed, so views and snapshots handed out earlier are not
+     * disturbed.
+     *
+     * @param newRows  the new row number of each old row, or -1 for a
+     *                 removed row
+     */
+    public void renumber(int[] newRows)
+    {
+        int[] oldKeys = keys;
+        int[][] oldRows = rows;
+        int[] oldCounts = counts;
+        allocate(keys.length);
+        size = 0;
+        int mask = keys.length - 1;
+        for (int from = 0; from < oldKeys.length; from++)
+        {
+            int[] kept = new int[oldCounts[from]];
+            int n = 0;
+            for (int i = 0; i < oldCounts[from]; i++)
+            {
+                int row = newRows[oldRows[from][i]];
+                if (row >= 0)
+                {
+                    kept[n] = row;
+                    n++;
+                }
+            }
+            if (n == 0)
+                continue;
+            int slot = firstSlot(oldKeys[from], mask);
+            while (counts[slot] != 0)
+                slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[from];
+            rows[slot] = kept;
+            counts[slot] = n;
+            size++;
+        }
+    }
+
+    /**
+     * Counts the rows with a key.
+     *
+     * @param key  the key to look up
+     * @return number of rows with the key
+     */
+    public int count(int key)
+    {
+        int slot = find(key);
+        return slot < 0 ? 0 : counts[slot];
+    }
+
+    /**
+     * Copies the rows with a key.
+     *
+     * @param key  the key to look up
+     * @return the rows with the key, in the order they were added
+     */
+    public int[] rows(int key)
+    {
+        int slot = find(key);
+        if (slot < 0)
+            return new int[0];
+        int[] result = new int[counts[slot]];
+        System.arraycopy(rows[slot], 0, result, 0, counts[slot]);
+        return result;
+    }
+
+    /**
+     * Lists the hurricanes with a key without copying the rows.  Rows
+     * added later do not appear in the view.
+     *
+     * @param columns  the hurricane data
+     * @param key      the key to look up
+     * @return a view of the hurricanes with the key, in the order they
+     *         were added
+     */
+    public HurricaneView view(HurricaneColumns columns, int key)
+    {
+        int slot = find(key);
+        if (slot < 0)
+            return new HurricaneView(columns, new int[0]);
+        return new HurricaneView(columns, rows[slot], 0, counts[slot]);
+    }
+
+    /**
+     * Builds an index from a sorted order in which the rows of each key
+     * form one run, in the order they were added, such as a year order
+     * saved in a snapshot.  No keys are hashed per row; each run is
+     * copied out as its key's row list.
+     *
+     * @param keys    the key of each run; no key appears twice
+     * @param starts  the position in the order where each run starts,
+     *                with one more entry, the order's size, at the end
+     * @param order   holds the runs
+     * @return an index of every row in the order
+     */
+    static HurricaneIndex fromRuns(int[] keys, int[] starts,
+        IntBuffer order)
+    {
+        HurricaneIndex index = new HurricaneIndex();
+        int slots = INITIAL_SLOTS;
+        while (slots < 2 * (keys.length + 1))
+            slots *= 2;
+        index.allocate(slots);
+        for (int k = 0; k < keys.length; k++)
+        {
+            int slot = index.claim(keys[k]);
+            int count = starts[k + 1] - starts[k];
+            int[] list = new int[count];
+            for (int i = 0; i < count; i++)
+            {
+                list[i] = order.get(starts[k] + i);
+            }
+            index.rows[slot] = list;
+            index.counts[slot] = count;
+        }
+        return index;
+    }
+
+    /**
+     * Makes an index holding the rows added so far.  The row lists are
+     * shared, not copied: rows added to this index later go past the end
+     * the copy reads, so the copy stays the same while this index grows.
+     * The copy must not be added to.
+     *
+     * @return the rows so far, with their own copy of the table
+     */
+    HurricaneIndex snapshot()
+    {
+        HurricaneIndex copy = new HurricaneIndex();
+        copy.keys = keys.clone();
+        copy.rows = rows.clone();
+        copy.counts = counts.clone();
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Retrieves the number of distinct keys.
+     *
+     * @return number of keys with at least one row
+     */
+    public int size()
+    {
+        return size;
+    }
+}
@@ -0,0 +1,266 @@
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+/**
+ * Tests HurricaneIndex and the organizer's searches against a map of
+ * lists and a scan of every hurricane.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneIndexTest
+{
+    /**
+     * Adds rows with random keys to an index and to a map of lists.  Most
+     * keys are close together, like years, and a few are far apart.
+     *
+     * @param index     receives the rows
+     * @param expected  receives the same rows
+     * @param from      the first row number
+     * @param to        one past the last row number
+     * @param random    chooses the keys
+     */
+    private static void addRows(HurricaneIndex index,
+        Map<Integer, List<Integer>> expected, int from, int to, Random random)
+    {
+        for (int row = from; row < to; row++)
+        {
+            int key = random.nextInt(10) == 0 ? random.nextInt()
+                : 1851 + random.nextInt(175);
+            index.add(key, row);
+            expected.computeIfAbsent(key, k -> new ArrayList<Integer>())
+                .add(row);
+        }
+    }
+
+    /**
+     * Checks that an index holds exactly the rows of a map of lists.
+     *
+     * @param message   names the check
+     * @param index     the index
+     * @param expected  the rows of each key
+     */
+    private static void assertIndex(String message, HurricaneIndex index,
+        Map<Integer, List<Integer>> expected)
+    {
+        assertEquals(message + ": size", expected.size(), index.size());
+        for (Map.Entry<Integer, List<Integer>> entry : expected.entrySet())
+        {
+            int[] rows = new int[entry.getValue().size()];
+            for (int i = 0; i < rows.length; i++)
+            {
+                rows[i] = entry.getValue().get(i);
+            }
+            assertArrayEquals(message + ": rows of " + entry.getKey(), rows,
+                index.rows(entry.getKey()));
+            assertEquals(message + ": count of " + entry.getKey(),
+                rows.length, index.count(entry.getKey()));
+        }
+    }
+
+    /**
+     * Every key finds its rows in the order they were added, and a key
+     * with no rows finds none.
+     */
+    @Test
+    public void addAndFind()
+    {
+        HurricaneIndex index = new HurricaneIndex();
+        Map<Integer, List<Integer>> expected =
+            new HashMap<Integer, List<Integer>>();
+        assertEquals("empty index has keys", 0, index.size());
+        assertEquals("empty index has rows", 0, index.rows(2000).length);
+        addRows(index, expected, 0, 5000, new Random(1));
+        assertIndex("add fails", index, expected);
+        assertEquals("missing key has rows", 0, index.count(1700));
+        assertEquals("missing key has rows", 0, index.rows(1700).length);
+    }
+
+    /**
+     * Renumbering drops removed rows and keys left without rows, and rows
+     * can be added afterward.
+     */
+    @Test
+    public void renumber()
+    {
+        HurricaneIndex index = new HurricaneIndex();
+        Map<Integer, List<Integer>> expected =
+            new HashMap<Integer, List<Integer>>();
+        Random random = new Random(2);
+        addRows(index, expected, 0, 3000, random);
+        int[] newRows = new int[3000];
+        int next = 0;
+        for (int row = 0; row < newRows.length; row++)
+        {
+            newRows[row] = random.nextInt(3) == 0 ? -1 : next++;
+        }
+        Map<Integer, List<Integer>> kept =
+            new HashMap<Integer, List<Integer>>();
+        for (Map.Entry<Integer, List<Integer>> entry : expected.entrySet())
+        {
+            for (int row : entry.getValue())
+            {
+                if (newRows[row] >= 0)
+                    kept.computeIfAbsent(entry.getKey(),
+                        k -> new ArrayList<Integer>()).add(newRows[row]);
+            }
+        }
+        index.renumber(newRows);
+        assertIndex("renumber fails", index, kept);
+        addRows(index, kept, next, next + 1000, random);
+        assertIndex("add after renumber fails", index, kept);
+    }
+
+    /**
+     * Snapshots and views keep the rows they were made with while the
+     * index changes.
+     */
+    @Test
+    public void snapshotsAndViews()
+    {
+        HurricaneColumns columns = new HurricaneDataGenerator(3).generate(400);
+        HurricaneIndex index = new HurricaneIndex();
+        for (int row = 0; row < 200; row++)
+        {
+            index.add(columns.getYear(row), row);
+        }
+        int year = columns.getYear(0);
+        int[] before = index.rows(year);
+        HurricaneIndex snapshot = index.snapshot();
+        HurricaneView view = index.view(columns, year);
+        for (int row = 200; row < 400; row++)
+        {
+            index.add(columns.getYear(row), row);
+        }
+        assertArrayEquals("snapshot changed by add", before,
+            snapshot.rows(year));
+        assertEquals("view changed by add", before.length, view.size());
+        for (int i = 0; i < before.length; i++)
+        {
+            assertEquals("view fails", before[i], view.row(i));
+        }
+        int[] newRows = new int[400];
+        Arrays.fill(newRows, -1);
+        index.renumber(newRows);
+        assertEquals("renumber keeps keys", 0, index.size());
+        assertArrayEquals("snapshot changed by renumber", before,
+            snapshot.rows(year));
+    }
+
+    /**
+     * An index built from the runs of a sorted order matches one built a
+     * row at a time.
+     */
+    @Test
+    public void fromRuns()
+    {
+        HurricaneColumns columns = new HurricaneDataGenerator(4).generate(2000);
+        HurricaneIndex expected = new HurricaneIndex();
+        Integer[] order = new Integer[columns.size()];
+        for (int row = 0; row < columns.size(); row++)
+        {
+            expected.add(columns.getYear(row), row);
+            order[row] = row;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(columns.getYear(a),
+            columns.getYear(b)));
+        IntBuffer sorted = IntBuffer.allocate(order.length);
+        List<Integer> keys = new ArrayList<Integer>();
+        List<Integer> starts = new ArrayList<Integer>();
+        for (int i = 0; i < order.length; i++)
+        {
+            sorted.put(i, order[i]);
+            int year = columns.getYear(order[i]);
+            if (keys.isEmpty() || keys.get(keys.size() - 1) != year)
+            {
+                keys.add(year);
+                starts.add(i);
+            }
+        }
+        starts.add(order.length);
+        HurricaneIndex index = HurricaneIndex.fromRuns(
+            keys.stream().mapToInt(Integer::intValue).toArray(),
+            starts.stream().mapToInt(Integer::intValue).toArray(), sorted);
+        assertEquals("fromRuns size fails", expected.size(), index.size());
+        for (int year : keys)
+        {
+            assertArrayEquals("fromRuns fails for " + year,
+                expected.rows(year), index.rows(year));
+        }
+        index.add(keys.get(0), columns.size());
+        assertEquals("add after fromRuns fails",
+            expected.count(keys.get(0)) + 1, index.count(keys.get(0)));
+    }
+
+    /**
+     * Finds the hurricanes with a year or name by looking at each one.
+     *
+     * @param hurs  every hurricane, in the order they were loaded
+     * @param year  the year to match, or 0 to match by name
+     * @param name  the name to match
+     * @return the matching hurricanes as text
+     */
+    private static List<String> scan(Hurricane[] hurs, int year, String name)
+    {
+        List<String> found = new ArrayList<String>();
+        for (Hurricane h : hurs)
+        {
+            if (year != 0 ? h.getYear() == year : h.getName().equals(name))
+                found.add(h.toString());
+        }
+        return found;
+    }
+
+    /**
+     * Lists hurricanes as text.
+     *
+     * @param hurs  the hurricanes
+     * @return each hurricane's text
+     */
+    private static List<String> text(Hurricane[] hurs)
+    {
+        List<String> found = new ArrayList<String>();
+        for (Hurricane h : hurs)
+        {
+            found.add(h.toString());
+        }
+        return found;
+    }
+
+    /**
+     * The organizer's year and name searches find every match in load
+     * order, before and after more hurricanes are added and after
+     * sorting, and find nothing for a missing year or name.
+     *
+     * @throws IOException  if the data file is missing
+     */
+    @Test
+    public void organizerSearches() throws IOException
+    {
+        HurricaneOrganizerArray cane =
+            new HurricaneOrganizerArray("hurricanedata.txt");
+        for (int round = 0; round < 2; round++)
+        {
+            Hurricane[] hurs = cane.getColumns().toHurricanes();
+            for (Hurricane h : hurs)
+            {
+                assertEquals("searchYear fails for " + h.getYear(),
+                    scan(hurs, h.getYear(), null),
+                    text(cane.searchYear(h.getYear())));
+                assertEquals("searchHurricaneName fails for " + h.getName(),
+                    scan(hurs, 0, h.getName()),
+                    text(cane.searchHurricaneName(h.getName())));
+            }
+            assertEquals("missing year found", 0, cane.searchYear(1700).length);
+            assertEquals("missing name found", 0,
+                cane.searchHurricaneName("Nobody").length);
+            cane.sortNames();
+            cane.appendAll(new HurricaneDataGenerator(5).generate(300)
+                .toHurricanes());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Names the fields that hurricanes can be ordered or filtered by.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public enum HurricaneKey
+{
+    YEAR, MONTH, NAME, CATEGORY, PRESSURE, SPEED;
+
+    /**
+     * Retrieves this field of a row as an integer.  The month is its
+     * month code and the name is its dictionary id, which does not follow
+     * alphabetical order; use HurricaneColumns.nameRanks to order names.
+     *
+     * @param columns  the hurricane data
+     * @param row      the row number
+     * @return the field's value
+     */
+    public int valueOf(HurricaneColumns columns, int row)
+    {
+        switch (this)
+        {
+            case YEAR:
+                return columns.getYear(row);
+            case MONTH:
+                return columns.getMonthCode(row);
+            case NAME:
+                return columns.getNameId(row);
+            case CATEGORY:
+                return columns.getCategory(row);
+            case PRESSURE:
+                return columns.getPressure(row);
+            default:
+                return columns.getSpeed(row);
+        }
+    }
+}
@@ -12,10 +12,29 @@ import java.util.*;
  * @author Chenkai Hong
  * @version January 17, 2019
  * @version February 10, 2020 Polished code via variable names
+ * @version October 18, 2026 Single-pass file loading
  */
 public class HurricaneOrganizerArray
 {
-    private Hurricane [] hurricanes;
+    private HurricaneColumns columns;
+    private int[] order;
+    private HurricaneIndex yearIndex;
+    private HurricaneIndex nameIndex;
+    private HurricaneSnapshot saved;
+    private HurricaneSortedView yearView;
+    private HurricaneSortedView nameView;
+    private HurricaneSortedView speedView;
+    private HurricaneSortedView pressureView;
+    private HurricaneEytzinger nameSearch;
+    private int[] nameRows;
+    private int[] nameRanks;
+    private HurricanePartitions partitions;
+    private HurricaneStats stats;
+    private HurricaneDataset dataset;
+    private HurricaneCategoryScale scale = HurricaneCategoryScale.SAFFIR_SIMPSON;
+    private Scanner in;
+    private long readNanos;
+    private long parseNanos;
 
     /**
      * Constructor for instances of the HurricaneOrganizerArray class
@@ -30,79 +49,445 @@ public class HurricaneOrganizerArray
     }
 
     /**
-     * Calculates the length of a file.
+     * Reads the file in a single pass.
      *
-     * @param filename  The file's name to be counted
+     * @param filename  filename to be read
+     *
+     * @throws IOException  if file is not found
+     */
+    public void readFile(String filename) throws IOException
+    {
+        readFile(filename, false);
+    }
+
+    /**
+     * Reads the file in a single pass, optionally parsing chunks of it
+     * on several threads.  Parallel parsing pays off for files of many
+     * megabytes; the result is the same either way.
      *
-     * @return The files's length as an integer. 
+     * @param filename  filename to be read
+     * @param parallel  true to parse the file on several threads
      *
      * @throws IOException  if file is not found
      */
-    private static int determineFileLength(String filename) throws IOException
+    public void readFile(String filename, boolean parallel) throws IOException
     {
-        Scanner inFile = new Scanner(new File(filename));
-        int counter = 0;
+        HurricaneFileReader reader = new HurricaneFileReader();
+        load(reader.read(filename, parallel), null);
+        readNanos = reader.getReadNanos();
+        parseNanos = reader.getParseNanos();
+    }
+
+    /**
+     * Reads a binary snapshot written by writeSnapshot.  The snapshot is
+     * mapped into memory and read in place: no text is parsed, the sorted
+     * orders are not sorted again, the indexes are built from the saved
+     * runs only when first used, and hurricanes are created only when
+     * they are printed or returned.
+     *
+     * @param filename  snapshot to be read
+     *
+     * @throws IOException  if file is not found or is not a snapshot
+     */
+    public void readSnapshot(String filename) throws IOException
+    {
+        long start = System.nanoTime();
+        HurricaneSnapshot snapshot = HurricaneSnapshot.read(filename);
+        readNanos = System.nanoTime() - start;
+        parseNanos = 0;
+        load(snapshot.getColumns(), snapshot);
+    }
 
-        while(inFile.hasNextLine())
+    /**
+     * Saves the hurricanes, in the order they were loaded, as a binary
+     * snapshot along with their sorted orders and index runs.
+     *
+     * @param filename  snapshot to be written
+     *
+     * @throws IOException  if the file cannot be written
+     */
+    public void writeSnapshot(String filename) throws IOException
+    {
+        HurricaneSnapshot.write(columns, yearView, nameView, speedView,
+            pressureView, filename);
+    }
+
+    /**
+     * Replaces the hurricane data with a new set of columns.  The
+     * hurricanes start in the order they were loaded.
+     *
+     * @param loaded    the new hurricane data
+     * @param snapshot  the snapshot holding the columns, whose sorted
+     *                  orders and index runs are used rather than built;
+     *                  null if the columns were read from text
+     */
+    private void load(HurricaneColumns loaded, HurricaneSnapshot snapshot)
+    {
+        if (scale != HurricaneCategoryScale.SAFFIR_SIMPSON)
+            loaded.reclassify(scale);
+        columns = loaded;
+        order = null;
+        saved = snapshot;
+        stats = null;
+        dataset = null;
+        nameSearch = null;
+        buildViews();
+        if (snapshot == null)
         {
-            counter++;
-            inFile.nextLine();
+            buildIndexes();
         }
-        inFile.close();
-        return counter;
+        else
+        {
+            yearIndex = null;
+            nameIndex = null;
+        }
+        if (partitions != null)
+            partitions = HurricanePartitions.of(columns, partitions.getSpan());
     }
 
     /**
-     * Reads the file.
+     * Adds one hurricane after the ones already loaded.  The indexes,
+     * sorted orders and statistics are updated in place rather than
+     * rebuilt.  Each call merges into every sorted order, so add many
+     * hurricanes with one call to appendAll.
      *
-     * @param filename  filename to be read
+     * @param h  the hurricane to add
+     */
+    public void append(Hurricane h)
+    {
+        appendAll(new Hurricane[] {h});
+    }
+
+    /**
+     * Adds several hurricanes after the ones already loaded, in order.
+     * They also go on the end of the current order, and each is given
+     * its category on the current scale.  Only their values are kept, not
+     * the Hurricane objects.  The new rows are merged into each sorted
+     * order as one batch.
+     *
+     * @param hurs  the hurricanes to add
+     */
+    public void appendAll(Hurricane[] hurs)
+    {
+        int firstRow = columns.size();
+        for (Hurricane h : hurs)
+        {
+            columns.add(h.getYear(), h.getMonth(), h.getPressure(),
+                h.getSpeed(), scale.categoryOf(h.getSpeed()), h.getName());
+        }
+        appendRows(firstRow);
+    }
+
+    /**
+     * Brings everything kept about the hurricanes up to date with rows
+     * just added to the columns.  The rows go on the end of the current
+     * order, into the indexes, partitions and statistics one at a time,
+     * and into each sorted order as one batch.
+     *
+     * @param firstRow  the first new row
+     */
+    private void appendRows(int firstRow)
+    {
+        dataset = null;
+        nameSearch = null;
+        int size = columns.size();
+        if (order != null && size > order.length)
+            order = Arrays.copyOf(order, Math.max(size, order.length * 2));
+        for (int row = firstRow; row < size; row++)
+        {
+            if (order != null)
+                order[row] = row;
+            indexRow(row);
+            if (partitions != null)
+                partitions.add(columns, row);
+            if (stats != null)
+                stats.add(columns.getPressure(row), columns.getSpeed(row),
+                    columns.getCategory(row));
+        }
+        yearView.insertAll(firstRow, size);
+        nameView.insertAll(firstRow, size);
+        speedView.insertAll(firstRow, size);
+        pressureView.insertAll(firstRow, size);
+    }
+
+    /**
+     * Figures out the category of every hurricane again on a different
+     * scale, such as a regional one.  The categories are looked up in one
+     * pass over the wind speeds, and hurricanes loaded or added later are
+     * put on the same scale.  The categories go into a new column rather
+     * than changing the old one, so snapshots keep their categories; the
+     * hurricanes keep their current order.
+     *
+     * @param newScale  the hurricane scale to use
+     */
+    public void reclassify(HurricaneCategoryScale newScale)
+    {
+        columns.reclassify(newScale);
+        scale = newScale;
+        stats = null;
+        dataset = null;
+        if (partitions != null)
+            partitions = HurricanePartitions.of(columns, partitions.getSpan());
+    }
+
+    /**
+     * Splits the hurricanes into partitions of whole years, such as one
+     * per year or one per decade, each with the range of years, speeds and
+     * pressures it holds.  While partitioned, search and getStats of a
+     * query read only the partitions that can hold matches.  searchYear
+     * keeps using the year index, which already reads only the year's
+     * rows.  The partitions are kept up to date as hurricanes are added
+     * or loaded.
+     *
+     * @param span  number of years in each partition, or 0 to stop
+     *              partitioning
+     *
+     * @throws IllegalArgumentException  if span < 0
+     */
+    public void partitionBy(int span)
+    {
+        if (span == 0)
+            partitions = null;
+        else
+            partitions = HurricanePartitions.of(columns, span);
+    }
+
+    /**
+     * Reads a file of new seasons and adds its hurricanes after the ones
+     * already loaded, as appendAll does: the new rows are merged into
+     * each sorted order as one batch.  Only the partitions of the new
+     * years change.
+     *
+     * @param filename  file name to be read
      *
      * @throws IOException  if file is not found
      */
-    public void readFile(String filename) throws IOException
+    public void loadSeason(String filename) throws IOException
     {
-        hurricanes = new Hurricane [determineFileLength(filename)];
-        int hurYear, hurPressure, hurSpeed;
-        String hurName, hurMonth;
-        Scanner inFile = new Scanner(new File(filename));
+        HurricaneColumns season = new HurricaneFileReader().read(filename);
+        if (scale != HurricaneCategoryScale.SAFFIR_SIMPSON)
+            season.reclassify(scale);
+        int firstRow = columns.size();
+        columns.addAll(season);
+        appendRows(firstRow);
+    }
 
-        for(int i = 0; i < hurricanes.length; i++)
+    /**
+     * Drops a season: the partition holding a year when partitioned, or
+     * else just that year.  The remaining hurricanes keep their current
+     * order.  The rows after the season's move up, and the indexes,
+     * sorted orders and other partitions are renumbered in one pass each
+     * rather than built again.
+     *
+     * @param year  a year of the season to drop
+     * @return number of hurricanes dropped
+     */
+    public int evictSeason(int year)
+    {
+        HurricaneIndex years = yearIndex();
+        HurricaneIndex names = nameIndex();
+        int[] evicted = partitions != null ? partitions.evict(year)
+            : years.rows(year);
+        if (evicted.length == 0)
+            return 0;
+        int[] newRows = columns.removeRows(evicted);
+        if (order != null)
         {
-            hurYear = inFile.nextInt();
-            hurMonth = inFile.next();
-            hurPressure = inFile.nextInt();
-            hurSpeed = inFile.nextInt();
-            String tempName = inFile.nextLine();
-            hurName = "";
-            for(int k = 0; k < tempName.length(); k++)
+            int kept = 0;
+            for (int i = 0; i < newRows.length; i++)
             {
-                char c = tempName.charAt(k);
-                if(('a' <= c && c <= 'z') || ('A' <= c && c <='Z'))
-                    hurName += c;
+                int row = newRows[order[i]];
+                if (row >= 0)
+                {
+                    order[kept] = row;
+                    kept++;
+                }
             }
-            Hurricane h = new Hurricane(hurYear, hurMonth, hurPressure, hurSpeed, hurName);
-            hurricanes [i] = h;
         }
-        inFile.close();
+        years.renumber(newRows);
+        names.renumber(newRows);
+        yearView.renumber(newRows);
+        nameView.renumber(newRows);
+        speedView.renumber(newRows);
+        pressureView.renumber(newRows);
+        if (partitions != null)
+            partitions.renumber(newRows);
+        stats = null;
+        dataset = null;
+        nameSearch = null;
+        return evicted.length;
     }
 
     /**
-     * Finds the max wind speed of all the wind speeds.
+     * Takes an unchanging snapshot of the hurricanes, which many threads
+     * can read and order in different ways at once.  The snapshot is kept
+     * and returned again until the hurricanes change.  Sorting this
+     * organizer does not affect it.
      *
-     * @return Max wind speed
+     * @return a snapshot of the hurricanes, in the order they were loaded
      */
-    public int findMaxWindSpeed( )
+    public HurricaneDataset snapshot()
+    {
+        if (dataset == null)
+            dataset = new HurricaneDataset(columns.snapshot(),
+                yearIndex().snapshot(), nameIndex().snapshot());
+        return dataset;
+    }
+
+    /**
+     * Builds the sorted orders used by the sort methods.
+     */
+    private void buildViews()
+    {
+        yearView = new HurricaneSortedView(
+            (a, b) -> Integer.compare(columns.getYear(a), columns.getYear(b)));
+        nameView = new HurricaneSortedView(
+            (a, b) -> columns.getName(a).compareTo(columns.getName(b)));
+        speedView = new HurricaneSortedView(
+            (a, b) -> Integer.compare(columns.getSpeed(a), columns.getSpeed(b)));
+        pressureView = new HurricaneSortedView(
+            (a, b) -> Integer.compare(columns.getPressure(b),
+                columns.getPressure(a)));
+        if (saved == null)
+        {
+            yearView.build(columns.size());
+            nameView.build(columns.size());
+            speedView.build(columns.size());
+            pressureView.build(columns.size());
+        }
+        else
+        {
+            yearView.open(saved.getYearOrder());
+            nameView.open(saved.getNameOrder());
+            speedView.open(saved.getSpeedOrder());
+            pressureView.open(saved.getPressureOrder());
+        }
+    }
+
+    /**
+     * Indexes every loaded row by year and by name.
+     */
+    private void buildIndexes()
     {
-        int max = hurricanes[0].getSpeed();
-        for (int i = 1; i < hurricanes.length; i++)
+        yearIndex = new HurricaneIndex();
+        nameIndex = new HurricaneIndex();
+        for (int row = 0; row < columns.size(); row++)
         {
-            if(max < hurricanes[i].getSpeed())
+            indexRow(row);
+        }
+    }
+
+    /**
+     * Adds one row to the year and name indexes.
+     *
+     * @param row  the row number
+     */
+    private void indexRow(int row)
+    {
+        yearIndex().add(columns.getYear(row), row);
+        nameIndex().add(columns.getNameId(row), row);
+    }
+
+    /**
+     * Retrieves the year index, building it from the runs of a snapshot's
+     * year order the first time it is used after the snapshot is read.
+     * The runs describe the rows as they were read, so the index is built
+     * before any rows are dropped.
+     *
+     * @return the year index
+     */
+    private HurricaneIndex yearIndex()
+    {
+        if (yearIndex == null)
+            yearIndex = HurricaneIndex.fromRuns(saved.getYearKeys(),
+                saved.getYearStarts(), saved.getYearOrder());
+        return yearIndex;
+    }
+
+    /**
+     * Retrieves the name index, building it from the runs of a snapshot's
+     * name order the first time it is used after the snapshot is read.
+     *
+     * @return the name index
+     */
+    private HurricaneIndex nameIndex()
+    {
+        if (nameIndex == null)
+            nameIndex = HurricaneIndex.fromRuns(saved.getNameKeys(),
+                saved.getNameStarts(), saved.getNameOrder());
+        return nameIndex;
+    }
+
+    /**
+     * Retrieves the current order, starting from the order the hurricanes
+     * were loaded in the first time it is changed or read.
+     *
+     * @return the current order, as row numbers
+     */
+    private int[] order()
+    {
+        if (order == null)
+        {
+            order = new int[Math.max(16, columns.size())];
+            for (int row = 0; row < columns.size(); row++)
             {
-                max = hurricanes[i].getSpeed();
+                order[row] = row;
             }
         }
-        return max;
+        return order;
+    }
+
+    /**
+     * Creates the hurricanes for a list of rows.
+     *
+     * @param rows  the row numbers
+     * @return the hurricanes in the same order as the rows
+     */
+    private Hurricane[] toHurricanes(int[] rows)
+    {
+        Hurricane[] hurs = new Hurricane[rows.length];
+        for (int i = 0; i < rows.length; i++)
+        {
+            hurs[i] = columns.toHurricane(rows[i]);
+        }
+        return hurs;
+    }
+
+    /**
+     * Prints how long each phase of the last file load took.
+     */
+    public void printLoadTimings()
+    {
+        System.out.printf("Read %d records: %.3f ms reading, %.3f ms parsing. \n",
+            columns.size(), readNanos / 1e6, parseNanos / 1e6);
+    }
+
+    /**
+     * Retrieves the statistics of all the hurricanes.  They are computed
+     * in one pass the first time they are needed and kept until the
+     * hurricane data changes.
+     *
+     * @return statistics of all the hurricanes
+     */
+    public HurricaneStats getStats()
+    {
+        if (stats == null)
+        {
+            stats = HurricaneStats.of(columns);
+        }
+        return stats;
     }
+
+    /**
+     * Finds the max wind speed of all the wind speeds.
+     *
+     * @return Max wind speed
+     */
+    public int findMaxWindSpeed( )
+    {
+        return getStats().getMaxSpeed();
+    }
+
     /**
      * Finds the max pressure of all the pressures.
      *
@@ -110,16 +495,9 @@ public class HurricaneOrganizerArray
      */
     public int findMaxPressure( )
     {
-        int maxPressure = hurricanes[0].getPressure();
-        for (int i = 1; i < hurricanes.length; i++)
-        {
-            if(maxPressure < hurricanes[i].getPressure())
-            {
-                maxPressure = hurricanes[i].getPressure();
-            }
-        }
-        return maxPressure;
+        return getStats().getMaxPressure();
     }
+
     /**
      * Finds the min wind speed of all the wind speeds.
      *
@@ -127,15 +505,7 @@ public class HurricaneOrganizerArray
      */
     public int findMinWindSpeed( )
     {
-         int min = hurricanes[0].getSpeed();
-        for (int i = 1; i < hurricanes.length; i++)
-        {
-            if(min > hurricanes[i].getSpeed())
-            {
-                min = hurricanes[i].getSpeed();
-            }
-        }
-        return min;
+        return getStats().getMinSpeed();
     }
 
     /**
@@ -145,16 +515,9 @@ public class HurricaneOrganizerArray
      */
     public int findMinPressure( )
     {
-         int min = hurricanes[0].getPressure();
-        for (int i = 1; i < hurricanes.length; i++)
-        {
-            if(min > hurricanes[i].getPressure())
-            {
-                min = hurricanes[i].getPressure();
-            }
-        }
-        return min;
+        return getStats().getMinPressure();
     }
+
     /**
      * Finds the average wind speed of all the wind speeds.
      *
@@ -162,27 +525,19 @@ public class HurricaneOrganizerArray
      */
     public double calculateAverageWindSpeed( )
     {
-        double averageSpeed = 0;
-        for (int i = 0; i < hurricanes.length; i++)
-        {
-            averageSpeed += hurricanes[i].getSpeed();
-        }
-        return (averageSpeed / hurricanes.length);
+        return getStats().getAverageSpeed();
     }
+
     /**
-     * Finds the average wind speed of all the wind speeds.
+     * Finds the average pressure of all the pressures.
      *
-     * @return average wind speed
+     * @return average pressure
      */
     public double calculateAveragePressure( )
     {
-        double averagePressure = 0;
-        for (int i = 0; i < hurricanes.length; i++)
-        {
-            averagePressure += hurricanes[i].getPressure();
-        }
-        return (averagePressure/ hurricanes.length);
+        return getStats().getAveragePressure();
     }
+
     /**
      * Calculates the average category of all hurricanes
      *
@@ -191,226 +546,361 @@ public class HurricaneOrganizerArray
      */
     public double calculateAverageCategory( )
     {
-        double averageCategory = 0;
-        for (int i = 0; i < hurricanes.length; i++)
-        {
-            averageCategory += hurricanes[i].getCategory();
-        }
-        return (averageCategory/ hurricanes.length);
+        return getStats().getAverageCategory();
     }
 
     /**
-     * Sorts in an ascendingo order with respect to the hurricanes' years,
-     * 
-     * The algorithm is selection sort.
+     * Retrieves the hurricane data, in the order the records were
+     * loaded.  Sorting the hurricanes does not reorder it.
+     *
+     * @return the hurricane columns
+     */
+    public HurricaneColumns getColumns()
+    {
+        return columns;
+    }
+
+    /**
+     * Sorts in an ascendingo order with respect to the hurricanes' years.
+     * The order is copied from the maintained year order, so nothing is
+     * sorted; hurricanes in the same year are in the order they were
+     * loaded.
      */
     public void sortYears()
     {
-        for (int outer = 0; outer < hurricanes.length; outer++)
-        {
-            int mindex = outer;
-            for (int inner = outer+1; inner < hurricanes.length; inner++)
-            {
-                if(hurricanes[inner].getYear() < hurricanes[mindex].getYear())
-                {
-                    mindex = inner;
-                }
-            }
-            Hurricane temp = hurricanes[outer];
-            hurricanes[outer] = hurricanes[mindex];
-            hurricanes[mindex] = temp;
-        }
+        applyOrder(yearView);
     }
 
     /**
-     * Sorts in an ascendingo order with respect to the hurricanes' names,
-     * using insertion sort.
+     * Sorts in an ascendingo order with respect to the hurricanes' names.
+     * The order is copied from the maintained name order, so no names are
+     * compared; hurricanes with the same name are in the order they were
+     * loaded.
      */
     public void sortNames()
     {
-        for (int outer = 0; outer < hurricanes.length; outer++)
-        {
-            int mindex = outer;
-            for (int inner = outer+1; inner < hurricanes.length; inner++)
-            {
-                if(hurricanes[inner].getName().compareTo(hurricanes[mindex].getName()) < 0)
-                {
-                    mindex = inner;
-                }
-            }
-            Hurricane temp = hurricanes[outer];
-            hurricanes[outer] = hurricanes[mindex];
-            hurricanes[mindex] = temp;
-        }
+        applyOrder(nameView);
     }
 
     /**
-     * Sorts in an ascendingo order with respect to the hurricanes' categories,
-     * using selection sort.
+     * Sorts descending with respect to the hurricanes' categories,
+     * using a stable counting sort.
      */
     public void sortCategories()
     {
-        for (int outer = 0; outer < hurricanes.length; outer++)
-        {
-            int mindex = outer;
-            for (int inner = outer+1; inner < hurricanes.length; inner++)
-            {
-                if(hurricanes[inner].getCategory() > hurricanes[mindex].getCategory())
-                {
-                    mindex = inner;
-                }
-            }
-            Hurricane temp = hurricanes[outer];
-            hurricanes[outer] = hurricanes[mindex];
-            hurricanes[mindex] = temp;
-        }
+        HurricaneSorter.countingSort(order(), 0, columns.size(),
+            columns::getCategory, HurricaneStats.CATEGORY_COUNT - 1, true);
     }  
 
     /**
-     * Sorts descending with respect to pressures using selection sort.
+     * Sorts descending with respect to pressures.  The order is copied
+     * from the maintained pressure order; hurricanes with the same
+     * pressure are in the order they were loaded.
      */
     public void sortPressures()
     {
-        for (int outer = 0; outer < hurricanes.length; outer++)
+        applyOrder(pressureView);
+    }
+
+    /**
+     * Puts the hurricanes in a random order, such as before timing a sort
+     * so that it does not start from hurricanes already in order.
+     *
+     * @param random  chooses the order
+     */
+    void shuffle(Random random)
+    {
+        int[] rows = order();
+        for (int i = columns.size() - 1; i > 0; i--)
         {
-            int mindex = outer;
-            for (int inner = outer+1; inner < hurricanes.length; inner++)
-            {
-                if(hurricanes[inner].getPressure() > hurricanes[mindex].getPressure())
-                {
-                    mindex = inner;
-                }
-            }
-            Hurricane temp = hurricanes[outer];
-            hurricanes[outer] = hurricanes[mindex];
-            hurricanes[mindex] = temp;
+            int j = random.nextInt(i + 1);
+            int row = rows[i];
+            rows[i] = rows[j];
+            rows[j] = row;
+        }
+    }
+
+    /**
+     * Puts the hurricanes into the order of a maintained view.
+     *
+     * @param view  the order to copy; it holds every row
+     */
+    private void applyOrder(HurricaneSortedView view)
+    {
+        int[] rows = order();
+        for (int i = 0; i < view.size(); i++)
+        {
+            rows[i] = view.row(i);
         }
     }
     
     /**
-     * Sorts descending a portion of array based upon pressure,
-     * using selection sort.
+     * Sorts by several keys at once, such as by year and then by pressure
+     * descending.  All the keys are packed into one number per hurricane,
+     * so the whole order comes from a single sort.  Hurricanes that tie on
+     * every key keep the order they were loaded in.
+     *
+     * @param keys        the keys to sort by, most important first
+     * @param descending  for each key, true to sort that key descending
      *
-     * @param   start   the first index to start the sort
-     * @param   end     one past the last index to sort; hence, end position
-     *                  is excluded in the sort
+     * @throws IllegalArgumentException  if the arrays differ in length or
+     *                                   the keys do not fit in one number
      */
-    private void sortPressuresHelper (int start, int end)
+    public void sortBy(HurricaneKey[] keys, boolean[] descending)
     {
-        // write this code
+        if (keys.length != descending.length)
+            throw new IllegalArgumentException("Need one direction per key");
+        int[] rows = HurricaneSorter.sortRows(columns, keys, descending);
+        System.arraycopy(rows, 0, order(), 0, rows.length);
     }
 
     /**
-     * Sorts ascending based upon wind speeds using a recursive merge sort.
+     * Sorts ascending based upon wind speeds with a merge sort that runs
+     * on several threads for a long range, sharing one scratch array.
+     * The sort is stable, so hurricanes with the same speed keep their
+     * current order.
+     *
+     * @param low   the first index to sort
+     * @param high  the last index to sort; this index is included
      */
     public void sortWindSpeeds(int low, int high)
     {
-        // write this code
+        int[] speeds = columns.speedColumn();
+        HurricaneSorter.parallelSortRows(order(), low, high + 1,
+            (a, b) -> Integer.compare(speeds[a], speeds[b]));
+    }
+
+    /**
+     * Search for all the hurricanes within ranges of year, speed and
+     * pressure.  The hurricanes are not reordered or copied.  While
+     * partitioned, only the partitions that can hold matches are read.
+     *
+     * @param query  the bounds to search within
+     * @return a view of the matching hurricanes, in the order they
+     *         were loaded
+     */
+    public HurricaneView search(HurricaneQuery query)
+    {
+        if (partitions != null)
+            return new HurricaneView(columns, partitions.search(query));
+        return query.run(columns, yearView, speedView, pressureView);
+    }
+
+    /**
+     * Computes the statistics of the hurricanes within ranges of year,
+     * speed and pressure.  While partitioned, a partition that lies wholly
+     * inside the ranges adds its kept statistics without being read.
+     *
+     * @param query  the bounds the hurricanes must satisfy
+     * @return statistics of the matching hurricanes
+     */
+    public HurricaneStats getStats(HurricaneQuery query)
+    {
+        if (partitions != null)
+            return partitions.stats(query);
+        HurricaneView matches = search(query);
+        HurricaneStats matchStats = new HurricaneStats();
+        for (int i = 0; i < matches.size(); i++)
+        {
+            int row = matches.row(i);
+            matchStats.add(columns.getPressure(row), columns.getSpeed(row),
+                columns.getCategory(row));
+        }
+        return matchStats;
     }
 
     /**
-     * Merges two consecutive parts of an array, using wind speed as a criteria
-     * and a temporary array.  The merge results in an ascending sort between
-     * the two given indices.
+     * Finds the k hurricanes with the most extreme values of a key, such as
+     * the ten fastest winds or the five lowest pressures.  The hurricanes
+     * are not sorted or reordered.
      *
-     * @precondition the two parts are sorted ascending based upon wind speed
+     * @param key         the key to rank by
+     * @param k           the number of hurricanes wanted
+     * @param descending  true for the largest values, false for the smallest
+     * @return up to k hurricanes, most extreme first; ties are in the
+     *         order the hurricanes were loaded
+     */
+    public Hurricane[] topK(HurricaneKey key, int k, boolean descending)
+    {
+        return toHurricanes(HurricaneTopK.topRows(columns, key, k, descending));
+    }
+
+    /**
+     * Groups the hurricanes by a key, such as the year, month or category,
+     * and finds the count, average pressure and maximum wind speed of
+     * each group.
      *
-     * @param low   the starting index of one part of the array.
-     *              This index is included in the first half.
-     * @param mid   the starting index of the second part of the array.
-     *              This index is included in the second half.
-     * @param high  the ending index of the second part of the array.  
-     *              This index is included in the merge.
+     * @param key       the key to group by
+     * @param parallel  true to group ranges of hurricanes on several threads
+     * @return the groups, in increasing order of key
      */
-    private void mergeWindSpeedsSortHelper(int low, int mid, int high)
+    public HurricaneGroupBy groupBy(HurricaneKey key, boolean parallel)
     {
-        // write this code
+        return HurricaneGroupBy.of(columns, key, parallel);
     }
 
     /**
-     * Sequential search for all the hurricanes in a given year.
+     * Search for all the hurricanes in a given year, using the year index.
      *
      * @param   year
      * @return  an array of objects in Hurricane that occured in
-     *          the parameter year
+     *          the parameter year, in the order they were loaded
      */
     public Hurricane [] searchYear(int year)
     {
-        int counter = 0;
-        //Find []h length
-        // write this code
-
-        Hurricane[] matches = new Hurricane[counter];
-        // write the code
-        return matches;
+        return yearIndex().view(columns, year).toArray();
     }     
 
     /**
-     * Binary search for a hurricane name.
+     * Search for a hurricane name, using the name index.  The order of
+     * the hurricanes is not changed.
      *
      * @param  name   hurricane name being search
-     * @return a Hurricane array of all objects in hurricanes with specified name.
-     *         Returns null if there are no matches
+     * @return a Hurricane array of all objects in hurricanes with specified name,
+     *         in the order they were loaded; empty if there are no
+     *         matches, as for searchYear and searchHurricaneNameRange
      */
     public Hurricane[ ] searchHurricaneName(String name)
     {
-        sortNames();
-        return searchHurricaneNameHelper(name, 0, hurricanes.length - 1);
+        int id = columns.findNameId(name);
+        if (id < 0)
+            return new Hurricane[0];
+        return nameIndex().view(columns, id).toArray();
     }
 
     /**
-     * Recursive binary search for a hurricane name.  This is the helper
-     * for searchHurricaneName.
+     * Search for many hurricane names at once.  The names are sorted once
+     * and then matched against the name order in a single pass, comparing
+     * names only where the name changes.  The order of the hurricanes is
+     * not changed.
      *
-     * @precondition  the array must be presorted by the hurricane names
-     *
-     * @param   name  hurricane name to search for
-     * @param   low   the smallest index that needs to be checked
-     * @param   high  the highest index that needs to be checked
-     * @return  a Hurricane array of all Hurricane objects with a specified name.
-     *          Returns null if there are no matches
+     * @param  names  hurricane names being searched
+     * @return a map from each distinct name to a view of the hurricanes
+     *         with that name, in the order they were loaded; a name with
+     *         no matches maps to an empty view
      */
-    private Hurricane[ ] searchHurricaneNameHelper(String name, int low , int high)
+    public Map<String, HurricaneView> searchHurricaneNames(
+        Collection<String> names)
     {
-        // Test for the base case when a match is not found
-        return null;
-
-        // Test for match
-
-        
-        
-        // Determine if the potential match is in the
-        // "first half" of the considered items in the array
-
-        
-        
-        // The potential match must be in the
-        // "second half" of the considered items in the array
+        String[] queries = new TreeSet<String>(names).toArray(new String[0]);
+        int[] starts = new int[queries.length];
+        int[] ends = new int[queries.length];
+        int total = 0;
+        int q = 0;
+        int i = 0;
+        while (q < queries.length && i < nameView.size())
+        {
+            int id = columns.getNameId(nameView.row(i));
+            int runEnd = i + 1;
+            while (runEnd < nameView.size()
+                && columns.getNameId(nameView.row(runEnd)) == id)
+                runEnd++;
+            String name = columns.nameOf(id);
+            while (q < queries.length && queries[q].compareTo(name) < 0)
+                q++;
+            if (q < queries.length && queries[q].equals(name))
+            {
+                starts[q] = i;
+                ends[q] = runEnd;
+                total += runEnd - i;
+                q++;
+            }
+            i = runEnd;
+        }
 
-        
+        // Every match shares one row array
+        int[] rows = new int[total];
+        Map<String, HurricaneView> matches = new TreeMap<String, HurricaneView>();
+        int next = 0;
+        for (q = 0; q < queries.length; q++)
+        {
+            int from = next;
+            for (i = starts[q]; i < ends[q]; i++)
+            {
+                rows[next] = nameView.row(i);
+                next++;
+            }
+            matches.put(queries[q], new HurricaneView(columns, rows, from, next));
+        }
+        return matches;
     }
 
     /**
-     * Supports Binary Search method to get the full range of matches.
-     *
-     * @precondition  the array must be presorted by the hurricane names
+     * Search for a hurricane name by binary search over the name order.
+     * The first and last matches are found by two searches, so the time
+     * does not grow with the number of hurricanes that share the name.
+     * The order of the hurricanes is not changed and nothing is copied.
      *
-     * @param   name hurricane name being search for
-     * @param   index  the index where a match was found
-     * @return  a Hurricane array with objects from hurricanes with specified name.
-     *          Returns null if there are no matches
+     * @param  name  hurricane name being searched
+     * @return a view of the hurricanes with the name, in the order they
+     *         were loaded; empty if there are no matches
      */
-    private Hurricane[ ] retrieveMatchedNames (String name, int index)
+    public HurricaneView searchHurricaneNameRange(String name)
     {
-        // Find the start where the matches start:
+        if (nameSearch == null)
+            buildNameSearch();
+        int id = columns.findNameId(name);
+        if (id < 0 || nameRanks[id] < 0)
+            return new HurricaneView(columns, nameRows, 0, 0);
+        int rank = nameRanks[id];
+        return retrieveMatchedNames(rank, searchHurricaneNameHelper(rank));
+    }
 
-        
-        // Find the end of the matches:
+    /**
+     * Lays out the name order for searchHurricaneNameRange.  Each name is
+     * replaced by its rank among the distinct names, so the search
+     * compares integers rather than Strings.  The ranks come from one
+     * walk of the maintained name order, with no sorting.  A name the
+     * dictionary holds but no row has gets a rank of -1.
+     */
+    private void buildNameSearch()
+    {
+        nameRows = new int[nameView.size()];
+        nameRanks = new int[columns.nameCount()];
+        Arrays.fill(nameRanks, -1);
+        int[] ranks = new int[nameRows.length];
+        int rank = -1;
+        int previous = -1;
+        for (int i = 0; i < nameRows.length; i++)
+        {
+            nameRows[i] = nameView.row(i);
+            int id = columns.getNameId(nameRows[i]);
+            if (id != previous)
+            {
+                rank++;
+                nameRanks[id] = rank;
+                previous = id;
+            }
+            ranks[i] = rank;
+        }
+        nameSearch = new HurricaneEytzinger(ranks, ranks.length);
+    }
 
-        
-        // Copy the objects whose names match:
+    /**
+     * Binary search for the first hurricane with a name.  This is the
+     * helper for searchHurricaneNameRange.
+     *
+     * @param   rank  rank of the name among the distinct names
+     * @return  the position in the name order of the first hurricane with
+     *          the name, or the position it would have if there is none
+     */
+    private int searchHurricaneNameHelper(int rank)
+    {
+        return nameSearch.lowerBound(rank);
+    }
 
-        return null;  // correct this line
+    /**
+     * Supports binary search to get the full range of matches, by a
+     * second search for the end of the range rather than a walk.
+     *
+     * @param   rank   rank of the name among the distinct names
+     * @param   start  the position in the name order of the first match
+     * @return  a view of the part of the name order with the name
+     */
+    private HurricaneView retrieveMatchedNames(int rank, int start)
+    {
+        return new HurricaneView(columns, nameRows, start,
+            nameSearch.upperBound(rank));
     }
 
     /**
@@ -424,32 +914,85 @@ public class HurricaneOrganizerArray
     }
 
     /**
-     * Prints out all of the hurricanes using the toString.
+     * Prints out all of the hurricanes in their current order.
      */
     public void printHurricanes()
     {
-        printHurricanes(hurricanes);
+        printHurricanes(currentOrder());
     }
 
     /**
-     * Prints out a list of the hurrcanes of the given array.
+     * Prints out a list of the hurrcanes of the given array.  The lines
+     * are formatted into a buffer and printed in large blocks.
      *
-     * @param hurs  array of all of the hurricanes
+     * @param hurs  array of all of the hurricanes; may be null
      */
     public void printHurricanes(Hurricane [] hurs)
     {
-        if(hurs.length == 0)
+        if(hurs == null || hurs.length == 0)
         {
             System.out.println("\nVoid of hurricane data.");
             return;
         }
-        printHeader();
-        for(Hurricane h: hurs)
+        try
+        {
+            new HurricaneReportWriter(System.out,
+                HurricaneReportWriter.Format.TEXT).report(hurs);
+        }
+        catch (IOException e)
         {
-            System.out.println(h);
+            throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Prints out a list of the hurricanes in a view.  Each Hurricane is
+     * made from the columns only as its line is written.
+     *
+     * @param hurs  the hurricanes to print
+     */
+    public void printHurricanes(HurricaneView hurs)
+    {
+        if (hurs.size() == 0)
+        {
+            System.out.println("\nVoid of hurricane data.");
+            return;
+        }
+        try
+        {
+            new HurricaneReportWriter(System.out,
+                HurricaneReportWriter.Format.TEXT).report(hurs);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Lists every hurricane in its current order.
+     *
+     * @return a view of the current order
+     */
+    private HurricaneView currentOrder()
+    {
+        return new HurricaneView(columns, order(), 0, columns.size());
+    }
+
+    /**
+     * Writes the hurricanes, in their current order, as a report.
+     *
+     * @param out     receives the report
+     * @param format  text columns, CSV or JSON
+     *
+     * @throws IOException  if the report cannot be written
+     */
+    public void writeReport(OutputStream out, HurricaneReportWriter.Format format)
+        throws IOException
+    {
+        new HurricaneReportWriter(out, format).report(currentOrder());
+    }
+
     /**
      * Prints out the menu of options to do with the list of hurricanes.
      */
@@ -474,6 +1017,11 @@ public class HurricaneOrganizerArray
      */
     public void printMaxAndMin( )
     {
+        if (getStats().getCount() == 0)
+        {
+            System.out.println("\nVoid of hurricane data.");
+            return;
+        }
         System.out.println("Maximum wind speed is " +
             findMaxWindSpeed( ) +
             " knots and minimum wind speed is " +
@@ -489,6 +1037,11 @@ public class HurricaneOrganizerArray
      */
     public void printAverages( )
     {
+        if (getStats().getCount() == 0)
+        {
+            System.out.println("\nVoid of hurricane data.");
+            return;
+        }
         System.out.printf("Average wind speed is %5.2f knots. \n" ,
             calculateAverageWindSpeed( ));
         System.out.printf("Average pressure is %5.2f. \n" ,
@@ -502,7 +1055,8 @@ public class HurricaneOrganizerArray
      */
     public boolean interactWithUser( )
     {
-        Scanner in = new Scanner(System.in);
+        if (in == null)
+            in = new Scanner(System.in);
         boolean done = false;
         printMenu();
         int choice = in.nextInt();
@@ -543,7 +1097,7 @@ public class HurricaneOrganizerArray
         }
         else if(choice == 8)
         {
-            sortWindSpeeds(0, hurricanes.length - 1);
+            sortWindSpeeds(0, columns.size() - 1);
             printHurricanes( );
         }
         else if(choice == 9)
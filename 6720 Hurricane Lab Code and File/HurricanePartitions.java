@@ -0,0 +1,333 @@
+import java.util.*;
+
+/**
+ * Stores the rows of a hurricane dataset split into partitions of whole
+ * years, such as one per year or one per decade.  Each partition keeps
+ * its own copy of the year, speed, pressure and category columns, the
+ * row numbers they came from, and a zone map: the lowest and highest
+ * year, speed and pressure in the partition.
+ *
+ * A search first picks the partitions whose years it spans, then skips
+ * any whose zone map shows no row can match.  Statistics take a further
+ * shortcut: a partition whose zone map lies inside every bound is
+ * summed from its kept statistics without reading a row.  Partitions
+ * are independent, so a new season is added to one partition and a
+ * season is dropped by removing its partition.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricanePartitions
+{
+    private int span;
+    private int rowCount;
+    private TreeMap<Integer, Partition> partitions;
+
+    /**
+     * Initializes an empty set of partitions.
+     *
+     * @param span  number of years in each partition, such as 1 or 10
+     *
+     * @throws IllegalArgumentException  if span < 1
+     */
+    public HurricanePartitions(int span)
+    {
+        if (span < 1)
+            throw new IllegalArgumentException("Span: " + span);
+        this.span = span;
+        partitions = new TreeMap<Integer, Partition>();
+    }
+
+    /**
+     * Partitions every row of a set of columns.
+     *
+     * @param columns  the hurricane data
+     * @param span     number of years in each partition
+     * @return the partitions
+     */
+    public static HurricanePartitions of(HurricaneColumns columns, int span)
+    {
+        HurricanePartitions partitions = new HurricanePartitions(span);
+        for (int row = 0; row < columns.size(); row++)
+        {
+            partitions.add(columns, row);
+        }
+        return partitions;
+    }
+
+    /**
+     * Adds a row to the partition of its year.
+     *
+     * @param columns  the hurricane data
+     * @param row      the row number; each row is added once
+     */
+    public void add(HurricaneColumns columns, int row)
+    {
+        int year = columns.getYear(row);
+        int first = firstYear(year);
+        Partition partition = partitions.get(first);
+        if (partition == null)
+        {
+            partition = new Partition();
+            partitions.put(first, partition);
+        }
+        partition.add(year, columns.getSpeed(row), columns.getPressure(row),
+            columns.getCategory(row), row);
+        rowCount = Math.max(rowCount, row + 1);
+    }
+
+    /**
+     * Finds the first year of the partition a year belongs to.
+     *
+     * @param year  the year
+     * @return the first year of its partition, or Integer.MIN_VALUE if
+     *         that is too small to hold
+     */
+    private int firstYear(int year)
+    {
+        long first = Math.floorDiv((long) year, span) * span;
+        return (int) Math.max(first, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Retrieves the number of years in each partition.
+     *
+     * @return number of years in each partition
+     */
+    public int getSpan()
+    {
+        return span;
+    }
+
+    /**
+     * Retrieves the number of partitions holding rows.
+     *
+     * @return number of partitions
+     */
+    public int getPartitionCount()
+    {
+        return partitions.size();
+    }
+
+    /**
+     * Finds the rows that satisfy a query, reading only the partitions
+     * whose zone maps overlap every bound.  Matches are marked in a
+     * bitmap, so they come out in row order without sorting.
+     *
+     * @param query  the bounds to search within
+     * @return the row numbers, in increasing order
+     */
+    public int[] search(HurricaneQuery query)
+    {
+        long[] bitmap = new long[(rowCount + 63) / 64];
+        int count = 0;
+        for (Partition partition : candidates(query))
+        {
+            boolean all = partition.isCoveredBy(query);
+            for (int i = 0; i < partition.size; i++)
+            {
+                if (all || query.matches(partition.years[i],
+                    partition.speeds[i], partition.pressures[i]))
+                {
+                    int row = partition.rows[i];
+                    bitmap[row >>> 6] |= 1L << row;
+                    count++;
+                }
+            }
+        }
+        int[] rows = new int[count];
+        int next = 0;
+        for (int word = 0; word < bitmap.length; word++)
+        {
+            long bits = bitmap[word];
+            while (bits != 0)
+            {
+                rows[next] = word * 64 + Long.numberOfTrailingZeros(bits);
+                next++;
+                bits &= bits - 1;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Computes the statistics of the rows that satisfy a query.  Partitions
+     * whose zone maps lie inside every bound add their kept statistics;
+     * only partitions that straddle a bound are read row by row.
+     *
+     * @param query  the bounds the rows must satisfy
+     * @return statistics of the matching rows
+     */
+    public HurricaneStats stats(HurricaneQuery query)
+    {
+        HurricaneStats stats = new HurricaneStats();
+        for (Partition partition : candidates(query))
+        {
+            if (partition.isCoveredBy(query))
+            {
+                stats.addAll(partition.getStats());
+                continue;
+            }
+            for (int i = 0; i < partition.size; i++)
+            {
+                if (query.matches(partition.years[i], partition.speeds[i],
+                    partition.pressures[i]))
+                    stats.add(partition.pressures[i], partition.speeds[i],
+                        partition.categories[i]);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Lists the partitions within the query's years whose zone maps
+     * overlap every bound.
+     *
+     * @param query  the bounds to search within
+     * @return the partitions that may hold matches, in year order
+     */
+    private List<Partition> candidates(HurricaneQuery query)
+    {
+        List<Partition> candidates = new ArrayList<Partition>();
+        if (query.getMinYear() > query.getMaxYear())
+            return candidates;
+        for (Partition partition : partitions.subMap(
+            firstYear(query.getMinYear()), true,
+            firstYear(query.getMaxYear()), true).values())
+        {
+            if (query.overlaps(partition.yearRange, partition.speedRange,
+                partition.pressureRange))
+                candidates.add(partition);
+        }
+        return candidates;
+    }
+
+    /**
+     * Removes the partition a year belongs to.
+     *
+     * @param year  any year of the partition
+     * @return the row numbers that were in the partition, in increasing
+     *         order; empty if there was no such partition
+     */
+    public int[] evict(int year)
+    {
+        Partition partition = partitions.remove(firstYear(year));
+        if (partition == null)
+            return new int[0];
+        return Arrays.copyOf(partition.rows, partition.size);
+    }
+
+    /**
+     * Gives every row its new number after rows are removed.  The
+     * partitions of the removed rows must already have been evicted; the
+     * other partitions keep their zone maps and statistics.
+     *
+     * @param newRows  the new row number of each old row
+     */
+    public void renumber(int[] newRows)
+    {
+        rowCount = 0;
+        for (Partition partition : partitions.values())
+        {
+            for (int i = 0; i < partition.size; i++)
+            {
+                int row = newRows[partition.rows[i]];
+                partition.rows[i] = row;
+                rowCount = Math.max(rowCount, row + 1);
+            }
+        }
+    }
+
+    /**
+     * The rows of one span of years, with their zone map.  Each range is
+     * held as the lowest and the highest value.
+     */
+    private static class Partition
+    {
+        private int[] years = new int[16];
+        private int[] speeds = new int[16];
+        private int[] pressures = new int[16];
+        private int[] categories = new int[16];
+        private int[] rows = new int[16];
+        private int size;
+        private int[] yearRange = {Integer.MAX_VALUE, Integer.MIN_VALUE};
+        private int[] speedRange = {Integer.MAX_VALUE, Integer.MIN_VALUE};
+        private int[] pressureRange = {Integer.MAX_VALUE, Integer.MIN_VALUE};
+        private HurricaneStats stats;
+
+        /**
+         * Adds a row and widens the zone map to include it.
+         *
+         * @param year      year the hurricane took place
+         * @param speed     hurricane's speed in knots
+         * @param pressure  hurricane's pressure
+         * @param category  hurricane's category
+         * @param row       the row number
+         */
+        void add(int year, int speed, int pressure, int category, int row)
+        {
+            if (size == rows.length)
+            {
+                int capacity = size * 2;
+                years = Arrays.copyOf(years, capacity);
+                speeds = Arrays.copyOf(speeds, capacity);
+                pressures = Arrays.copyOf(pressures, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+                rows = Arrays.copyOf(rows, capacity);
+            }
+            years[size] = year;
+            speeds[size] = speed;
+            pressures[size] = pressure;
+            categories[size] = category;
+            rows[size] = row;
+            size++;
+            widen(yearRange, year);
+            widen(speedRange, speed);
+            widen(pressureRange, pressure);
+            if (stats != null)
+                stats.add(pressure, speed, category);
+        }
+
+        /**
+         * Widens a range to include a value.
+         *
+         * @param range  the lowest and highest value
+         * @param value  the value to include
+         */
+        private static void widen(int[] range, int value)
+        {
+            range[0] = Math.min(range[0], value);
+            range[1] = Math.max(range[1], value);
+        }
+
+        /**
+         * Determines whether every row satisfies a query, from the zone map.
+         *
+         * @param query  the bounds to check
+         * @return true if every row matches; otherwise, false
+         */
+        boolean isCoveredBy(HurricaneQuery query)
+        {
+            return query.covers(yearRange, speedRange, pressureRange);
+        }
+
+        /**
+         * Retrieves the statistics of every row, computing them the first
+         * time they are needed.  Later rows are added as they come.
+         *
+         * @return statistics of the partition
+         */
+        HurricaneStats getStats()
+        {
+            if (stats == null)
+            {
+                stats = new HurricaneStats();
+                for (int i = 0; i < size; i++)
+                {
+                    stats.add(pressures[i], speeds[i], categories[i]);
+                }
+            }
+            return stats;
+        }
+    }
+}
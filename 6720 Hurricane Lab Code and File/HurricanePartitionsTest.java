@@ -0,0 +1,245 @@
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Tests dropping seasons and searching partitions.  After a season is
+ * dropped the organizer must sort, search and summarize exactly like one
+ * that read only the hurricanes that are left.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricanePartitionsTest
+{
+    private File file;
+
+    /**
+     * Makes a file for the hurricanes each test expects to be left.
+     *
+     * @throws IOException  if the file cannot be made
+     */
+    @Before
+    public void setUp() throws IOException
+    {
+        file = File.createTempFile("hurricanes", ".txt");
+    }
+
+    /**
+     * Removes the test's file.
+     */
+    @After
+    public void tearDown()
+    {
+        file.delete();
+    }
+
+    /**
+     * Makes an organizer of the sample hurricanes and some generated ones.
+     *
+     * @return the organizer
+     *
+     * @throws IOException  if the data file is missing
+     */
+    private static HurricaneOrganizerArray organizer() throws IOException
+    {
+        HurricaneOrganizerArray cane =
+            new HurricaneOrganizerArray("hurricanedata.txt");
+        cane.appendAll(new HurricaneDataGenerator(1).generate(1000)
+            .toHurricanes());
+        return cane;
+    }
+
+    /**
+     * Makes an organizer that reads only some hurricanes from a file.
+     *
+     * @param hurs  the hurricanes, in load order
+     * @param keep  tells whether each hurricane is kept
+     * @return the organizer
+     *
+     * @throws IOException  if the file cannot be written or read
+     */
+    private HurricaneOrganizerArray organizer(Hurricane[] hurs,
+        Predicate<Hurricane> keep) throws IOException
+    {
+        PrintWriter out = new PrintWriter(new FileWriter(file));
+        try
+        {
+            for (Hurricane h : hurs)
+            {
+                if (keep.test(h))
+                    out.print(h.getYear() + " " + h.getMonth() + "\t"
+                        + h.getPressure() + "\t" + h.getSpeed() + "\t"
+                        + h.getName() + "\n");
+            }
+        }
+        finally
+        {
+            out.close();
+        }
+        return new HurricaneOrganizerArray(file.getPath());
+    }
+
+    /**
+     * Counts the hurricanes in a range of years.
+     *
+     * @param hurs  the hurricanes
+     * @param min   the first year
+     * @param max   the last year
+     * @return number of hurricanes from min to max
+     */
+    private static int count(Hurricane[] hurs, int min, int max)
+    {
+        int count = 0;
+        for (Hurricane h : hurs)
+        {
+            if (h.getYear() >= min && h.getYear() <= max)
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Runs range queries and summaries.
+     *
+     * @param cane  the organizer
+     * @return the results as text
+     */
+    private static List<String> queries(HurricaneOrganizerArray cane)
+    {
+        List<String> results = new ArrayList<String>();
+        HurricaneQuery[] queries = {new HurricaneQuery(),
+            new HurricaneQuery().years(1980, 2000),
+            new HurricaneQuery().years(1900, 1990).speeds(80, 120),
+            new HurricaneQuery().pressures(900, 950)};
+        for (HurricaneQuery query : queries)
+        {
+            HurricaneView view = cane.search(query);
+            for (int i = 0; i < view.size(); i++)
+            {
+                results.add(view.get(i).toString());
+            }
+            HurricaneStats stats = cane.getStats(query);
+            results.add(stats.getCount() + " " + stats.getMinSpeed() + " "
+                + stats.getMaxSpeed() + " " + stats.getMinPressure() + " "
+                + stats.getMaxPressure() + " " + stats.getAverageSpeed() + " "
+                + stats.getAveragePressure() + " "
+                + stats.getAverageCategory());
+        }
+        return results;
+    }
+
+    /**
+     * Dropping a year without partitions drops only that year.
+     *
+     * @throws IOException  if a file cannot be written or read
+     */
+    @Test
+    public void evictYear() throws IOException
+    {
+        HurricaneOrganizerArray cane = organizer();
+        Hurricane[] hurs = cane.getColumns().toHurricanes();
+        assertEquals("evictSeason count fails", count(hurs, 2005, 2005),
+            cane.evictSeason(2005));
+        assertEquals("evictSeason count fails", count(hurs, 1900, 1900),
+            cane.evictSeason(1900));
+        assertEquals("evicting a missing year drops rows", 0,
+            cane.evictSeason(1700));
+        HurricaneOrganizerArray expected = organizer(hurs,
+            h -> h.getYear() != 2005 && h.getYear() != 1900);
+        assertEquals("queries fail after evictSeason", queries(expected),
+            queries(cane));
+        assertEquals("organizer fails after evictSeason",
+            HurricaneSnapshotTest.behavior(expected),
+            HurricaneSnapshotTest.behavior(cane));
+    }
+
+    /**
+     * Dropping a season while partitioned drops the whole partition, and
+     * the queries prune the rest as before.
+     *
+     * @throws IOException  if a file cannot be written or read
+     */
+    @Test
+    public void evictPartition() throws IOException
+    {
+        HurricaneOrganizerArray cane = organizer();
+        cane.partitionBy(10);
+        Hurricane[] hurs = cane.getColumns().toHurricanes();
+        assertEquals("evictSeason count fails", count(hurs, 1980, 1989),
+            cane.evictSeason(1985));
+        assertEquals("evictSeason count fails", count(hurs, 2000, 2009),
+            cane.evictSeason(2000));
+        assertEquals("evicting a dropped season drops rows", 0,
+            cane.evictSeason(1981));
+        HurricaneOrganizerArray expected = organizer(hurs,
+            h -> h.getYear() / 10 != 198 && h.getYear() / 10 != 200);
+        expected.partitionBy(10);
+        assertEquals("queries fail after evictSeason", queries(expected),
+            queries(cane));
+        cane.partitionBy(0);
+        assertEquals("queries fail after partitionBy(0)", queries(expected),
+            queries(cane));
+        assertEquals("organizer fails after evictSeason",
+            HurricaneSnapshotTest.behavior(expected),
+            HurricaneSnapshotTest.behavior(cane));
+    }
+
+    /**
+     * The hurricanes left keep their current order, hurricanes added
+     * after a season is dropped go on its end, and a dataset taken before
+     * is not changed.
+     *
+     * @throws IOException  if a file cannot be written or read
+     */
+    @Test
+    public void evictKeepsOrder() throws IOException
+    {
+        HurricaneOrganizerArray cane = organizer();
+        Hurricane[] hurs = cane.getColumns().toHurricanes();
+        HurricaneDataset before = cane.snapshot();
+        cane.sortNames();
+        List<String> sorted = HurricaneSorterTest.report(cane);
+        cane.evictSeason(1999);
+        List<String> kept = new ArrayList<String>();
+        for (String line : sorted)
+        {
+            if (!line.startsWith("1999,"))
+                kept.add(line);
+        }
+        assertEquals("evictSeason reorders the hurricanes", kept,
+            HurricaneSorterTest.report(cane));
+        assertEquals("evictSeason changes a dataset", hurs.length,
+            before.size());
+        assertEquals("evictSeason changes a dataset", hurs[0].toString(),
+            before.get(0).toString());
+
+        Hurricane[] more = new HurricaneDataGenerator(2).generate(200)
+            .toHurricanes();
+        cane.appendAll(more);
+        List<Hurricane> left = new ArrayList<Hurricane>();
+        for (Hurricane h : hurs)
+        {
+            if (h.getYear() != 1999)
+                left.add(h);
+        }
+        left.addAll(Arrays.asList(more));
+        HurricaneOrganizerArray expected = organizer(
+            left.toArray(new Hurricane[0]), h -> true);
+        List<String> added = HurricaneSorterTest.report(expected);
+        kept.addAll(added.subList(added.size() - more.length, added.size()));
+        assertEquals("appendAll after evictSeason fails", kept,
+            HurricaneSorterTest.report(cane));
+
+        // Past the current order, which differs, both behave the same
+        List<List<String>> want = HurricaneSnapshotTest.behavior(expected);
+        List<List<String>> got = HurricaneSnapshotTest.behavior(cane);
+        assertEquals("organizer fails after evictSeason and appendAll",
+            want.subList(1, want.size()), got.subList(1, got.size()));
+    }
+}
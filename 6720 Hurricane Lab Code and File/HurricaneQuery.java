@@ -0,0 +1,232 @@
+/**
+ * Describes a range search, such as "years 1990 to 2005 with speed at
+ * least 100 and pressure at most 950".  Each field has an inclusive
+ * lower and upper bound, and a field with no bounds set matches every
+ * hurricane.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneQuery
+{
+    private int minYear = Integer.MIN_VALUE;
+    private int maxYear = Integer.MAX_VALUE;
+    private int minSpeed = Integer.MIN_VALUE;
+    private int maxSpeed = Integer.MAX_VALUE;
+    private int minPressure = Integer.MIN_VALUE;
+    private int maxPressure = Integer.MAX_VALUE;
+
+    /**
+     * Limits the search to a span of years.
+     *
+     * @param min  the first year to include
+     * @param max  the last year to include
+     * @return this query
+     */
+    public HurricaneQuery years(int min, int max)
+    {
+        minYear = min;
+        maxYear = max;
+        return this;
+    }
+
+    /**
+     * Limits the search to a range of wind speeds.
+     *
+     * @param min  the lowest speed to include, in knots
+     * @param max  the highest speed to include, in knots
+     * @return this query
+     */
+    public HurricaneQuery speeds(int min, int max)
+    {
+        minSpeed = min;
+        maxSpeed = max;
+        return this;
+    }
+
+    /**
+     * Limits the search to a range of pressures.
+     *
+     * @param min  the lowest pressure to include
+     * @param max  the highest pressure to include
+     * @return this query
+     */
+    public HurricaneQuery pressures(int min, int max)
+    {
+        minPressure = min;
+        maxPressure = max;
+        return this;
+    }
+
+    /**
+     * Determines whether a row satisfies every bound.
+     *
+     * @param columns  the hurricane data
+     * @param row      the row number
+     * @return true if the row matches; otherwise, false
+     */
+    public boolean matches(HurricaneColumns columns, int row)
+    {
+        return matches(columns.getYear(row), columns.getSpeed(row),
+            columns.getPressure(row));
+    }
+
+    /**
+     * Determines whether the current record of a stream satisfies every
+     * bound.
+     *
+     * @param cursor  the record
+     * @return true if the record matches; otherwise, false
+     */
+    public boolean matches(HurricaneCursor cursor)
+    {
+        return matches(cursor.getYear(), cursor.getSpeed(),
+            cursor.getPressure());
+    }
+
+    /**
+     * Determines whether a hurricane's values satisfy every bound.
+     *
+     * @param year      year the hurricane took place
+     * @param speed     hurricane's speed in knots
+     * @param pressure  hurricane's pressure
+     * @return true if the values match; otherwise, false
+     */
+    boolean matches(int year, int speed, int pressure)
+    {
+        return minYear <= year && year <= maxYear
+            && minSpeed <= speed && speed <= maxSpeed
+            && minPressure <= pressure && pressure <= maxPressure;
+    }
+
+    /**
+     * Retrieves the first year the search includes.
+     *
+     * @return the lower bound on year
+     */
+    int getMinYear()
+    {
+        return minYear;
+    }
+
+    /**
+     * Retrieves the last year the search includes.
+     *
+     * @return the upper bound on year
+     */
+    int getMaxYear()
+    {
+        return maxYear;
+    }
+
+    /**
+     * Determines whether any hurricane within some ranges of year, speed
+     * and pressure could satisfy every bound.
+     *
+     * @param years      the lowest and highest year
+     * @param speeds     the lowest and highest speed
+     * @param pressures  the lowest and highest pressure
+     * @return true if the ranges overlap every bound; otherwise, false
+     */
+    boolean overlaps(int[] years, int[] speeds, int[] pressures)
+    {
+        return minYear <= years[1] && years[0] <= maxYear
+            && minSpeed <= speeds[1] && speeds[0] <= maxSpeed
+            && minPressure <= pressures[1] && pressures[0] <= maxPressure;
+    }
+
+    /**
+     * Determines whether every hurricane within some ranges of year, speed
+     * and pressure satisfies every bound.
+     *
+     * @param years      the lowest and highest year
+     * @param speeds     the lowest and highest speed
+     * @param pressures  the lowest and highest pressure
+     * @return true if the ranges lie inside every bound; otherwise, false
+     */
+    boolean covers(int[] years, int[] speeds, int[] pressures)
+    {
+        return minYear <= years[0] && years[1] <= maxYear
+            && minSpeed <= speeds[0] && speeds[1] <= maxSpeed
+            && minPressure <= pressures[0] && pressures[1] <= maxPressure;
+    }
+
+    /**
+     * Runs the search.  Each bounded field's matches form one contiguous
+     * run of its sorted view, found by binary search.  Only the smallest
+     * run is scanned; its rows are checked against the other bounds on
+     * the int columns and marked in a bitmap, so the matches come out in
+     * row order without sorting.
+     *
+     * @param columns       the hurricane data
+     * @param yearView      rows sorted by year ascending
+     * @param speedView     rows sorted by speed ascending
+     * @param pressureView  rows sorted by pressure descending
+     * @return the matching hurricanes, in the order they were loaded
+     */
+    HurricaneView run(HurricaneColumns columns, HurricaneSortedView yearView,
+        HurricaneSortedView speedView, HurricaneSortedView pressureView)
+    {
+        int n = columns.size();
+        int[] yearRun = {
+            yearView.partitionPoint(row -> columns.getYear(row) < minYear),
+            yearView.partitionPoint(row -> columns.getYear(row) <= maxYear)};
+        int[] speedRun = {
+            speedView.partitionPoint(row -> columns.getSpeed(row) < minSpeed),
+            speedView.partitionPoint(row -> columns.getSpeed(row) <= maxSpeed)};
+        int[] pressureRun = {
+            pressureView.partitionPoint(
+                row -> columns.getPressure(row) > maxPressure),
+            pressureView.partitionPoint(
+                row -> columns.getPressure(row) >= minPressure)};
+
+        HurricaneSortedView view = yearView;
+        int[] run = yearRun;
+        if (length(speedRun) < length(run))
+        {
+            view = speedView;
+            run = speedRun;
+        }
+        if (length(pressureRun) < length(run))
+        {
+            view = pressureView;
+            run = pressureRun;
+        }
+
+        long[] bitmap = new long[(n + 63) / 64];
+        int count = 0;
+        for (int i = run[0]; i < run[1]; i++)
+        {
+            int row = view.row(i);
+            if (matches(columns, row))
+            {
+                bitmap[row >>> 6] |= 1L << row;
+                count++;
+            }
+        }
+        int[] rows = new int[count];
+        int next = 0;
+        for (int word = 0; word < bitmap.length; word++)
+        {
+            long bits = bitmap[word];
+            while (bits != 0)
+            {
+                rows[next] = word * 64 + Long.numberOfTrailingZeros(bits);
+                next++;
+                bits &= bits - 1;
+            }
+        }
+        return new HurricaneView(columns, rows);
+    }
+
+    /**
+     * Retrieves the length of a run of a sorted view.
+     *
+     * @param run  the first index and one past the last index
+     * @return number of rows in the run
+     */
+    private static int length(int[] run)
+    {
+        return Math.max(0, run[1] - run[0]);
+    }
+}
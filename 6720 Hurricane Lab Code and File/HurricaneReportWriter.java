@@ -0,0 +1,516 @@
+import java.io.*;
+import java.nio.charset.Charset;
+
+/**
+ * Writes lists of hurricanes as text reports.  Each record is formatted
+ * straight into a reusable byte buffer, with no format strings to parse,
+ * and the buffer is written to the output stream in large blocks rather
+ * than once per line.
+ *
+ * Reports can be written as fixed-width columns, laid out exactly like
+ * Hurricane.toString, or as CSV or JSON.  A text report ends its lines
+ * exactly as printHeader and println did: the blank lines and column
+ * titles with a newline and each hurricane with the platform's line
+ * separator, so on any platform it matches the old printHurricanes byte
+ * for byte.  CSV and JSON reports end every line with a newline, so
+ * their files are the same on every platform.  Text and CSV reports encode
+ * names in a character set, by default the platform's, as println does;
+ * ASCII characters are copied straight into the buffer and only a String
+ * holding other characters goes through the encoder.  JSON reports
+ * escape every character outside printable ASCII, so they are plain
+ * ASCII and therefore valid UTF-8 whatever the names hold.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneReportWriter
+{
+    /**
+     * The layouts a report can be written in.
+     */
+    public enum Format
+    {
+        TEXT, CSV, JSON
+    }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Column titles of the text and CSV layouts.
+     */
+    private static final String[] TITLES = {"Year", "Mon.", "Name", "Cat.",
+        "Knots", "Pressure"};
+    private static final String[] FIELDS = {"year", "month", "name",
+        "category", "knots", "pressure"};
+
+    /**
+     * Width of each text column, and whether it is padded on the right.
+     */
+    private static final int[] WIDTHS = {4, 5, 15, 5, 5, 5};
+    private static final boolean[] LEFT = {true, true, true, true, false, false};
+
+    private OutputStream out;
+    private Format format;
+    private Charset charset;
+    private byte[] buffer;
+    private int length;
+    private byte[] lineSeparator;
+    private byte[] digits;
+    private int records;
+
+    /**
+     * Initializes a writer that encodes text and CSV reports in the
+     * platform's character set.
+     *
+     * @param out     receives the report
+     * @param format  the layout to write
+     */
+    public HurricaneReportWriter(OutputStream out, Format format)
+    {
+        this(out, format, Charset.defaultCharset());
+    }
+
+    /**
+     * Initializes a writer.
+     *
+     * @param out      receives the report
+     * @param format   the layout to write
+     * @param charset  encodes names in text and CSV reports; JSON reports
+     *                 are always ASCII
+     */
+    public HurricaneReportWriter(OutputStream out, Format format,
+        Charset charset)
+    {
+        this.out = out;
+        this.format = format;
+        this.charset = charset;
+        buffer = new byte[BUFFER_SIZE];
+        lineSeparator = format == Format.TEXT
+            ? System.lineSeparator().getBytes() : new byte[] {'\n'};
+        digits = new byte[11];
+    }
+
+    /**
+     * Writes a whole report: the header, every hurricane and the ending.
+     *
+     * @param hurs  the hurricanes to write
+     *
+     * @throws IOException  if the output stream fails
+     */
+    public void report(Hurricane[] hurs) throws IOException
+    {
+        begin();
+        for (Hurricane h : hurs)
+        {
+            write(h);
+        }
+        end();
+    }
+
+    /**
+     * Writes a whole report of the hurricanes in a view.
+     *
+     * @param hurs  the hurricanes to write
+     *
+     * @throws IOException  if the output stream fails
+     */
+    public void report(HurricaneView hurs) throws IOException
+    {
+        begin();
+        for (int i = 0; i < hurs.size(); i++)
+        {
+            write(hurs.get(i));
+        }
+        end();
+    }
+
+    /**
+     * Writes the start of a report: the column titles for text and CSV,
+     * or the opening bracket for JSON.
+     *
+     * @throws IOException  if the output stream fails
+     */
+    public void begin() throws IOException
+    {
+        records = 0;
+        if (format == Format.TEXT)
+        {
+            // The blank lines printed above the header by the menu, which
+            // came from println("\n\n"), and the titles, from printf
+            append("\n\n");
+            newLine();
+            for (int i = 0; i < TITLES.length; i++)
+            {
+                pad(TITLES[i], WIDTHS[i], true);
+                append(' ');
+            }
+            append('\n');
+        }
+        else if (format == Format.CSV)
+        {
+            for (int i = 0; i < FIELDS.length; i++)
+            {
+                if (i > 0)
+                    append(',');
+                append(FIELDS[i]);
+            }
+            newLine();
+        }
+        else
+        {
+            append('[');
+            newLine();
+        }
+    }
+
+    /**
+     * Writes one hurricane.
+     *
+     * @param h  the hurricane to write
+     *
+     * @throws IOException  if the output stream fails
+     */
+    public void write(Hurricane h) throws IOException
+    {
+        if (format == Format.TEXT)
+        {
+            pad(h.getYear(), WIDTHS[0], LEFT[0]);
+            append(' ');
+            pad(h.getMonth(), WIDTHS[1], LEFT[1]);
+            append(' ');
+            pad(h.getName(), WIDTHS[2], LEFT[2]);
+            append(' ');
+            pad(h.getCategory(), WIDTHS[3], LEFT[3]);
+            append(' ');
+            pad(h.getSpeed(), WIDTHS[4], LEFT[4]);
+            append(' ');
+            pad(h.getPressure(), WIDTHS[5], LEFT[5]);
+            append(' ');
+        }
+        else if (format == Format.CSV)
+        {
+            append(h.getYear());
+            append(',');
+            csv(h.getMonth());
+            append(',');
+            csv(h.getName());
+            append(',');
+            append(h.getCategory());
+            append(',');
+            append(h.getSpeed());
+            append(',');
+            append(h.getPressure());
+        }
+        else
+        {
+            if (records > 0)
+            {
+                append(',');
+                newLine();
+            }
+            append("{\"year\":");
+            append(h.getYear());
+            append(",\"month\":");
+            json(h.getMonth());
+            append(",\"name\":");
+            json(h.getName());
+            append(",\"category\":");
+            append(h.getCategory());
+            append(",\"knots\":");
+            append(h.getSpeed());
+            append(",\"pressure\":");
+            append(h.getPressure());
+            append('}');
+        }
+        if (format != Format.JSON)
+            newLine();
+        records++;
+    }
+
+    /**
+     * Writes the end of a report and sends everything buffered to the
+     * output stream.
+     *
+     * @throws IOException  if the output stream fails
+     */
+    public void end() throws IOException
+    {
+        if (format == Format.JSON)
+        {
+            if (records > 0)
+                newLine();
+            append(']');
+            newLine();
+        }
+        flush();
+    }
+
+    /**
+     * Sends everything buffered to the output stream.
+     *
+     * @throws IOException  if the output stream fails
+     */
+    public void flush() throws IOException
+    {
+        out.write(buffer, 0, length);
+        length = 0;
+        out.flush();
+    }
+
+    /**
+     * Makes room for a number of bytes, writing out the buffer if needed.
+     *
+     * @param n  number of bytes about to be added; no more than the
+     *           buffer's length
+     *
+     * @throws IOException  if the output stream fails
+     */
+    private void reserve(int n) throws IOException
+    {
+        if (length + n > buffer.length)
+        {
+            out.write(buffer, 0, length);
+            length = 0;
+        }
+    }
+
+    /**
+     * Adds one ASCII character.
+     *
+     * @param c  the character; 0 <= c < 0x80
+     *
+     * @throws IOException  if the output stream fails
+     */
+    private void append(char c) throws IOException
+    {
+        reserve(1);
+        buffer[length] = (byte) c;
+        length++;
+    }
+
+    /**
+     * Adds a String, encoding it in the writer's character set if it
+     * holds anything but ASCII.
+     *
+     * @param s  the String
+     *
+     * @throws IOException  if the output stream fails
+     */
+    private void append(String s) throws IOException
+    {
+        for (int i = 0; i < s.length(); i++)
+        {
+            if (s.charAt(i) >= 0x80)
+            {
+                append(s.getBytes(charset));
+                return;
+            }
+        }
+        if (s.length() > buffer.length)
+        {
+            for (int i = 0; i < s.length(); i++)
+                append(s.charAt(i));
+            return;
+        }
+        reserve(s.length());
+        for (int i = 0; i < s.length(); i++)
+        {
+            buffer[length] = (byte) s.charAt(i);
+            length++;
+        }
+    }
+
+    /**
+     * Adds encoded bytes.
+     *
+     * @param bytes  the bytes
+     *
+     * @throws IOException  if the output stream fails
+     */
+    private void append(byte[] bytes) throws IOException
+    {
+        if (bytes.length > buffer.length)
+        {
+            out.write(buffer, 0, length);
+            length = 0;
+            out.write(bytes);
+            return;
+        }
+        reserve(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    /**
+     * Adds an integer in decimal.
+     *
+     * @param value  the integer
+     *
+     * @throws IOException  if the output stream fails
+     */
+    private void append(int value) throws IOException
+    {
+        int n = toDigits(value);
+        reserve(n);
+        System.arraycopy(digits, digits.length - n, buffer, length, n);
+        length += n;
+    }
+
+    /**
+     * Ends a line: with the platform's line separator in a text report,
+     * as println does, and with a newline in CSV and JSON.
+     *
+     * @throws IOException  if the output stream fails
+     */
+    private void newLine() throws IOException
+    {
+        reserve(lineSeparator.length);
+        System.arraycopy(lineSeparator, 0, buffer, length, lineSeparator.length);
+        length += lineSeparator.length;
+    }
+
+    /**
+     * Adds a String padded with spaces to a width.
+     *
+     * @param s      the String; a longer String is not cut
+     * @param width  the width to pad to
+     * @param left   true to put the String on the left of the spaces
+     *
+     * @throws IOException  if the output stream fails
+     */
+    private void pad(String s, int width, boolean left) throws IOException
+    {
+        if (!left)
+            spaces(width - s.length());
+        append(s);
+        if (left)
+            spaces(width - s.length());
+    }
+
+    /**
+     * Adds an integer padded with spaces to a width.
+     *
+     * @param value  the integer
+     * @param width  the width to pad to
+     * @param left   true to put the integer on the left of the spaces
+     *
+     * @throws IOException  if the output stream fails
+     */
+    private void pad(int value, int width, boolean left) throws IOException
+    {
+        int n = toDigits(value);
+        if (!left)
+            spaces(width - n);
+        reserve(n);
+        System.arraycopy(digits, digits.length - n, buffer, length, n);
+        length += n;
+        if (left)
+            spaces(width - n);
+    }
+
+    /**
+     * Adds spaces.
+     *
+     * @param n  number of spaces; nothing is added if n <= 0
+     *
+     * @throws IOException  if the output stream fails
+     */
+    private void spaces(int n) throws IOException
+    {
+        if (n <= 0)
+            return;
+        reserve(n);
+        for (int i = 0; i < n; i++)
+        {
+            buffer[length] = ' ';
+            length++;
+        }
+    }
+
+    /**
+     * Puts the decimal digits of an integer at the end of the digit buffer.
+     *
+     * @param value  the integer
+     * @return number of characters, including any minus sign
+     */
+    private int toDigits(int value)
+    {
+        long v = Math.abs((long) value);
+        int i = digits.length;
+        do
+        {
+            i--;
+            digits[i] = (byte) ('0' + v % 10);
+            v /= 10;
+        }
+        while (v != 0);
+        if (value < 0)
+        {
+            i--;
+            digits[i] = '-';
+        }
+        return digits.length - i;
+    }
+
+    /**
+     * Adds a CSV field, quoting it if it holds a comma, quote or line
+     * break.
+     *
+     * @param s  the field
+     *
+     * @throws IOException  if the output stream fails
+     */
+    private void csv(String s) throws IOException
+    {
+        boolean quote = false;
+        for (int i = 0; i < s.length() && !quote; i++)
+        {
+            char c = s.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote)
+        {
+            append(s);
+            return;
+        }
+        append('"');
+        append(s.replace("\"", "\"\""));
+        append('"');
+    }
+
+    /**
+     * Adds a JSON string, escaping quotes and backslashes, and writing
+     * control characters and everything past printable ASCII as escapes
+     * of four hex digits.
+     *
+     * @param s  the string
+     *
+     * @throws IOException  if the output stream fails
+     */
+    private void json(String s) throws IOException
+    {
+        append('"');
+        for (int i = 0; i < s.length(); i++)
+        {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\')
+            {
+                append('\\');
+                append(c);
+            }
+            else if (c < ' ' || c > '~')
+            {
+                append("\\u");
+                String hex = Integer.toHexString(c);
+                for (int pad = hex.length(); pad < 4; pad++)
+                    append('0');
+                append(hex);
+            }
+            else
+            {
+                append(c);
+            }
+        }
+        append('"');
+    }
+}
@@ -0,0 +1,469 @@
+import java.io.*;
+import java.net.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Serves the hurricane menu over a local socket, so many clients can
+ * query the same data at once.  Each request is one line of text and
+ * each response is some lines of text followed by a blank line.  The
+ * requests are:
+ *
+ *     print                     every hurricane, in the order loaded
+ *     stats                     maximums, minimums and averages
+ *     sort year|name|category|pressure|speed
+ *     search year YEAR
+ *     search name NAME
+ *     quit                      closes the connection
+ *
+ * One thread owns a selector and does all the socket reads and writes
+ * without blocking.  Requests are answered by a pool of worker threads;
+ * the requests of one connection are answered one at a time, in order,
+ * while different connections are answered in parallel.  Every request
+ * reads a shared snapshot of the organizer, in which each sort order is
+ * computed once for every client.  The organizer can go on changing
+ * while the server is running; the server keeps serving the hurricanes
+ * as they were when it was made.
+ *
+ * Run with an optional port number, for example:
+ * java HurricaneServer 6720
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneServer implements Closeable
+{
+    private static final int DEFAULT_PORT = 6720;
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final int MAX_LINE_LENGTH = 1024;
+
+    private HurricaneDataset data;
+    private ExecutorService workers;
+    private Selector selector;
+    private ServerSocketChannel server;
+    private Queue<Connection> writable;
+    private volatile boolean running;
+
+    /**
+     * Initializes a server for an organizer.
+     *
+     * @param cane     the hurricanes to serve, as they are now; not
+     *                 changed by the server
+     * @param threads  number of worker threads answering requests
+     */
+    public HurricaneServer(HurricaneOrganizerArray cane, int threads)
+    {
+        data = cane.snapshot();
+        workers = Executors.newFixedThreadPool(threads);
+        writable = new ConcurrentLinkedQueue<Connection>();
+    }
+
+    /**
+     * Starts listening on the loopback address.
+     *
+     * @param port  the port to listen on, or 0 for any free port
+     * @return the port being listened on
+     *
+     * @throws IOException  if the port cannot be opened
+     */
+    public int bind(int port) throws IOException
+    {
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        return ((InetSocketAddress) server.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Accepts connections and moves bytes until close is called, then
+     * closes every connection.
+     *
+     * @throws IOException  if the selector fails
+     */
+    public void serve() throws IOException
+    {
+        try
+        {
+            while (running)
+            {
+                selector.select();
+                Connection ready;
+                while ((ready = writable.poll()) != null)
+                {
+                    if (ready.key.isValid())
+                        ready.key.interestOps(ready.key.interestOps()
+                            | SelectionKey.OP_WRITE);
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext())
+                {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try
+                    {
+                        if (key.isAcceptable())
+                            accept();
+                        else
+                        {
+                            Connection connection = (Connection) key.attachment();
+                            if (key.isReadable())
+                                connection.read();
+                            if (key.isValid() && key.isWritable())
+                                connection.write();
+                        }
+                    }
+                    catch (IOException e)
+                    {
+                        key.channel().close();
+                    }
+                }
+            }
+        }
+        finally
+        {
+            for (SelectionKey key : selector.keys())
+            {
+                key.channel().close();
+            }
+            selector.close();
+        }
+    }
+
+    /**
+     * Accepts a waiting client.
+     *
+     * @throws IOException  if the client cannot be accepted
+     */
+    private void accept() throws IOException
+    {
+        SocketChannel channel = server.accept();
+        if (channel == null)
+            return;
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+    }
+
+    /**
+     * Stops the server.  The thread running serve closes every connection
+     * and returns.
+     */
+    public void close()
+    {
+        running = false;
+        workers.shutdown();
+        if (selector != null)
+            selector.wakeup();
+    }
+
+    /**
+     * One client's connection.  The selector thread reads lines from it
+     * and writes responses to it; requests wait in order and are answered
+     * by one worker at a time.  Once a quit request is read nothing more
+     * is read from the client.  The quit is answered with a farewell
+     * buffer, and the channel is closed once that buffer has been written
+     * in full.
+     */
+    private class Connection
+    {
+        private SocketChannel channel;
+        private SelectionKey key;
+        private ByteBuffer input;
+        private StringBuilder line;
+        private Queue<String> requests;
+        private Queue<ByteBuffer> responses;
+        private boolean answering;
+        private boolean quitting;
+        private volatile ByteBuffer farewell;
+
+        /**
+         * Initializes a connection.
+         *
+         * @param channel  the client's channel
+         * @param key      the channel's selection key
+         */
+        Connection(SocketChannel channel, SelectionKey key)
+        {
+            this.channel = channel;
+            this.key = key;
+            input = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            line = new StringBuilder();
+            requests = new ArrayDeque<String>();
+            responses = new ConcurrentLinkedQueue<ByteBuffer>();
+        }
+
+        /**
+         * Reads what the client has sent and queues each complete line as
+         * a request.  After a quit request the rest of what was read is
+         * dropped and the channel is no longer watched for reads.
+         *
+         * @throws IOException  if the client has gone, sent a line that is
+         *                      too long, or the server is shutting down
+         */
+        void read() throws IOException
+        {
+            input.clear();
+            int n = channel.read(input);
+            if (n == -1)
+                throw new EOFException();
+            for (int i = 0; i < n; i++)
+            {
+                char c = (char) (input.get(i) & 0xFF);
+                if (c == '\n')
+                {
+                    String request = line.toString().trim();
+                    line.setLength(0);
+                    request(request);
+                    if (request.equalsIgnoreCase("quit"))
+                    {
+                        quitting = true;
+                        key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+                        return;
+                    }
+                }
+                else if (c != '\r')
+                {
+                    if (line.length() == MAX_LINE_LENGTH)
+                        throw new IOException("Request too long");
+                    line.append(c);
+                }
+            }
+        }
+
+        /**
+         * Queues a request, starting a worker if none is answering this
+         * connection.
+         *
+         * @param request  the request line
+         *
+         * @throws IOException  if the workers have been shut down
+         */
+        private void request(String request) throws IOException
+        {
+            synchronized (this)
+            {
+                requests.add(request);
+                if (answering)
+                    return;
+                answering = true;
+            }
+            try
+            {
+                workers.execute(this::answerAll);
+            }
+            catch (RejectedExecutionException e)
+            {
+                throw new IOException("Server is shutting down", e);
+            }
+        }
+
+        /**
+         * Answers queued requests in order until none are left or the
+         * client quits.  After a quit no worker is started for this
+         * connection again.  Runs on a worker thread.
+         */
+        private void answerAll()
+        {
+            while (true)
+            {
+                String request;
+                synchronized (this)
+                {
+                    request = requests.poll();
+                    if (request == null)
+                    {
+                        answering = false;
+                        return;
+                    }
+                }
+                if (request.equalsIgnoreCase("quit"))
+                {
+                    farewell = ByteBuffer.wrap(
+                        "Bye\n\n".getBytes(StandardCharsets.UTF_8));
+                    send(farewell);
+                    return;
+                }
+                send(ByteBuffer.wrap(
+                    answer(request).getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+
+        /**
+         * Queues a response and asks the selector thread to write it.
+         *
+         * @param response  the response's bytes
+         */
+        private void send(ByteBuffer response)
+        {
+            responses.add(response);
+            writable.add(this);
+            selector.wakeup();
+        }
+
+        /**
+         * Writes as much of the waiting responses as the client will take.
+         * Closes the channel once the farewell is sent, and otherwise stops
+         * watching for writes once everything is sent.
+         *
+         * @throws IOException  if the client has gone
+         */
+        void write() throws IOException
+        {
+            ByteBuffer response;
+            while ((response = responses.peek()) != null)
+            {
+                channel.write(response);
+                if (response.hasRemaining())
+                    return;
+                responses.poll();
+                if (response == farewell)
+                {
+                    channel.close();
+                    return;
+                }
+            }
+            int reading = quitting ? 0 : SelectionKey.OP_READ;
+            key.interestOps(reading);
+            if (!responses.isEmpty())
+                key.interestOps(reading | SelectionKey.OP_WRITE);
+        }
+    }
+
+    /**
+     * Answers one request.  Runs on a worker thread and only reads the
+     * snapshot.  A request that fails is answered with an error line, so
+     * the connection goes on to its next request.
+     *
+     * @param request  the request line
+     * @return the response, ending with a blank line
+     */
+    String answer(String request)
+    {
+        String[] words = request.split("\\s+", 3);
+        String command = words[0].toLowerCase();
+        StringBuilder out = new StringBuilder();
+        try
+        {
+            if (command.equals("print") && words.length == 1)
+                list(out, data.all());
+            else if (command.equals("stats") && words.length == 1)
+                stats(out, data.getStats());
+            else if (command.equals("sort") && words.length == 2)
+                list(out, sort(words[1].toLowerCase()));
+            else if (command.equals("search") && words.length == 3
+                && words[1].equalsIgnoreCase("year"))
+                list(out, data.searchYear(Integer.parseInt(words[2])));
+            else if (command.equals("search") && words.length == 3
+                && words[1].equalsIgnoreCase("name"))
+                list(out, data.searchName(words[2]));
+            else
+                out.append("Unknown request: ").append(request).append('\n');
+        }
+        catch (IllegalArgumentException e)
+        {
+            out.append("Bad request: ").append(request).append('\n');
+        }
+        catch (RuntimeException e)
+        {
+            out.setLength(0);
+            out.append("Error: ").append(request).append(": ").append(e)
+                .append('\n');
+        }
+        return out.append('\n').toString();
+    }
+
+    /**
+     * Finds the hurricanes in the order the menu sorts them, from the
+     * snapshot.
+     *
+     * @param field  year, name, category, pressure or speed
+     * @return the sorted hurricanes
+     */
+    private HurricaneView sort(String field)
+    {
+        switch (field)
+        {
+            case "year":
+                return data.sorted(HurricaneKey.YEAR, false);
+            case "name":
+                return data.sorted(HurricaneKey.NAME, false);
+            case "category":
+                return data.sorted(HurricaneKey.CATEGORY, true);
+            case "pressure":
+                return data.sorted(HurricaneKey.PRESSURE, true);
+            case "speed":
+                return data.sorted(HurricaneKey.SPEED, false);
+            default:
+                throw new IllegalArgumentException(field);
+        }
+    }
+
+    /**
+     * Adds the statistics lines that the menu prints.
+     *
+     * @param out    receives the lines
+     * @param stats  the statistics
+     */
+    private static void stats(StringBuilder out, HurricaneStats stats)
+    {
+        if (stats.getCount() == 0)
+        {
+            out.append("Void of hurricane data.\n");
+            return;
+        }
+        out.append("Maximum wind speed is ").append(stats.getMaxSpeed())
+            .append(" knots and minimum wind speed is ")
+            .append(stats.getMinSpeed()).append(" knots.\n");
+        out.append("Maximum pressure is ").append(stats.getMaxPressure())
+            .append(" and minimum pressure is ")
+            .append(stats.getMinPressure()).append(".\n");
+        out.append(String.format("Average wind speed is %5.2f knots. \n",
+            stats.getAverageSpeed()));
+        out.append(String.format("Average pressure is %5.2f. \n",
+            stats.getAveragePressure()));
+        out.append(String.format("Average category is %5.2f. \n",
+            stats.getAverageCategory()));
+    }
+
+    /**
+     * Adds one line per hurricane in a view.
+     *
+     * @param out   receives the lines
+     * @param hurs  the hurricanes
+     */
+    private static void list(StringBuilder out, HurricaneView hurs)
+    {
+        if (hurs.size() == 0)
+        {
+            out.append("Void of hurricane data.\n");
+            return;
+        }
+        for (int i = 0; i < hurs.size(); i++)
+        {
+            out.append(hurs.get(i)).append('\n');
+        }
+    }
+
+    /**
+     * Loads hurricanedata.txt and serves it until the process is stopped.
+     *
+     * @param args  the port to listen on; defaults to 6720
+     *
+     * @throws IOException  if the data cannot be loaded or the port opened
+     */
+    public static void main(String[] args) throws IOException
+    {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        HurricaneOrganizerArray cane = new HurricaneOrganizerArray("hurricanedata.txt");
+        HurricaneServer server = new HurricaneServer(cane,
+            Runtime.getRuntime().availableProcessors());
+        System.out.println("Serving hurricanes on port " + server.bind(port));
+        server.serve();
+    }
+}
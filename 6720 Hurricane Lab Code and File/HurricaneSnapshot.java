@@ -0,0 +1,542 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Saves hurricane columns, with their sorted orders and indexes, in a
+ * compact binary file and opens them again through a memory-mapped
+ * buffer, so a large dataset can be reloaded without parsing any text,
+ * sorting or copying.
+ *
+ * The file starts with a header holding a magic number, the format
+ * version, the row count, the sizes of the two dictionaries and the
+ * number of year and name runs.  Each column follows as one fixed-width
+ * section: year, pressure, speed and name id as 4 byte ints.  Then come
+ * the year, name, speed and pressure orders, each a section of 4 byte
+ * row numbers.  The year and name indexes are saved as runs of those
+ * orders: the key of each run and the position where it starts.  The
+ * category and month code columns follow as single bytes, and the month
+ * and name dictionaries come last, each entry written as a 2 byte length
+ * and its UTF-8 bytes.
+ *
+ * Opening a snapshot reads only the header, the runs and the
+ * dictionaries.  The columns and orders are read in place from the
+ * mapped file until they are changed.
+ *
+ * Every count, code, id and row number read back is checked before it
+ * is used, so a damaged file is reported as an IOException.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneSnapshot
+{
+    private static final int MAGIC = 0x48555252;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 28;
+
+    /**
+     * Bytes each row takes: four int columns, four orders and two byte
+     * columns.
+     */
+    private static final int ROW_SIZE = 8 * 4 + 2;
+
+    /**
+     * Bytes each run takes: its key and its start.
+     */
+    private static final int RUN_SIZE = 2 * 4;
+
+    /**
+     * Longest dictionary entry, in UTF-8 bytes, that fits its 2 byte
+     * length.
+     */
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private HurricaneColumns columns;
+    private IntBuffer yearOrder;
+    private IntBuffer nameOrder;
+    private IntBuffer speedOrder;
+    private IntBuffer pressureOrder;
+    private int[] yearKeys;
+    private int[] yearStarts;
+    private int[] nameKeys;
+    private int[] nameStarts;
+
+    /**
+     * Writes a set of columns and their sorted orders to a snapshot file.
+     * Ties in each order must be in row order, as HurricaneSortedView
+     * keeps them, so each year's and each name's rows are one run.
+     *
+     * @param columns       the hurricane data to save
+     * @param yearView      every row sorted by year ascending
+     * @param nameView      every row sorted by name
+     * @param speedView     every row sorted by speed ascending
+     * @param pressureView  every row sorted by pressure descending
+     * @param filename      the file to write
+     *
+     * @throws IOException               if the file cannot be written
+     * @throws IllegalArgumentException  if a month or name is longer than
+     *                                   65535 bytes in UTF-8; the file is
+     *                                   not touched
+     */
+    public static void write(HurricaneColumns columns,
+        HurricaneSortedView yearView, HurricaneSortedView nameView,
+        HurricaneSortedView speedView, HurricaneSortedView pressureView,
+        String filename) throws IOException
+    {
+        int n = columns.size();
+        int[][] yearRuns = runs(yearView, columns::getYear);
+        int[][] nameRuns = runs(nameView, columns::getNameId);
+        byte[][] monthBytes = new byte[columns.monthCount()][];
+        for (int code = 0; code < monthBytes.length; code++)
+        {
+            monthBytes[code] = encode(columns.monthOf(code));
+        }
+        byte[][] nameBytes = new byte[columns.nameCount()][];
+        for (int id = 0; id < nameBytes.length; id++)
+        {
+            nameBytes[id] = encode(columns.nameOf(id));
+        }
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+            new FileOutputStream(filename), 1 << 16));
+        try
+        {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(n);
+            out.writeInt(columns.monthCount());
+            out.writeInt(columns.nameCount());
+            out.writeInt(yearRuns[0].length);
+            out.writeInt(nameRuns[0].length);
+            writeInts(out, columns.yearColumn(), n);
+            writeInts(out, columns.pressureColumn(), n);
+            writeInts(out, columns.speedColumn(), n);
+            writeInts(out, columns.nameIdColumn(), n);
+            writeOrder(out, yearView);
+            writeOrder(out, nameView);
+            writeOrder(out, speedView);
+            writeOrder(out, pressureView);
+            for (int[] run : yearRuns)
+            {
+                writeInts(out, run, run.length);
+            }
+            for (int[] run : nameRuns)
+            {
+                writeInts(out, run, run.length);
+            }
+            int[] categories = columns.categoryColumn();
+            for (int i = 0; i < n; i++)
+            {
+                out.writeByte(categories[i]);
+            }
+            out.write(columns.monthColumn(), 0, n);
+            for (byte[] month : monthBytes)
+            {
+                writeString(out, month);
+            }
+            for (byte[] name : nameBytes)
+            {
+                writeString(out, name);
+            }
+        }
+        finally
+        {
+            out.close();
+        }
+    }
+
+    /**
+     * Writes the first n values of an int column.
+     *
+     * @param out     the snapshot being written
+     * @param column  the values to write
+     * @param n       number of values to write
+     *
+     * @throws IOException  if the file cannot be written
+     */
+    private static void writeInts(DataOutputStream out, int[] column, int n)
+        throws IOException
+    {
+        for (int i = 0; i < n; i++)
+        {
+            out.writeInt(column[i]);
+        }
+    }
+
+    /**
+     * Writes every row number of a sorted order.
+     *
+     * @param out   the snapshot being written
+     * @param view  the order to write
+     *
+     * @throws IOException  if the file cannot be written
+     */
+    private static void writeOrder(DataOutputStream out,
+        HurricaneSortedView view) throws IOException
+    {
+        for (int i = 0; i < view.size(); i++)
+        {
+            out.writeInt(view.row(i));
+        }
+    }
+
+    /**
+     * Finds the runs of equal keys in a sorted order.
+     *
+     * @param view  the order
+     * @param key   finds the key of a row
+     * @return the key of each run, then the position where each starts
+     */
+    private static int[][] runs(HurricaneSortedView view, IntUnaryOperator key)
+    {
+        int[] keys = new int[view.size()];
+        int[] starts = new int[view.size()];
+        int count = 0;
+        for (int i = 0; i < view.size(); i++)
+        {
+            int k = key.applyAsInt(view.row(i));
+            if (count == 0 || keys[count - 1] != k)
+            {
+                keys[count] = k;
+                starts[count] = i;
+                count++;
+            }
+        }
+        return new int[][] {Arrays.copyOf(keys, count),
+            Arrays.copyOf(starts, count)};
+    }
+
+    /**
+     * Encodes one dictionary entry, checking that its length fits.
+     *
+     * @param s  the entry
+     * @return the entry's UTF-8 bytes
+     *
+     * @throws IllegalArgumentException  if the entry is too long
+     */
+    private static byte[] encode(String s)
+    {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES)
+            throw new IllegalArgumentException("Too long for a snapshot: "
+                + bytes.length + " bytes");
+        return bytes;
+    }
+
+    /**
+     * Writes one dictionary entry.
+     *
+     * @param out    the snapshot being written
+     * @param bytes  the entry's UTF-8 bytes, from encode
+     *
+     * @throws IOException  if the file cannot be written
+     */
+    private static void writeString(DataOutputStream out, byte[] bytes)
+        throws IOException
+    {
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Opens a snapshot file by mapping it into memory.
+     *
+     * @param filename  the snapshot to open
+     * @return the hurricane data saved in the snapshot, read in place
+     *
+     * @throws IOException  if the file cannot be read or is not a snapshot
+     */
+    public static HurricaneSnapshot read(String filename) throws IOException
+    {
+        FileChannel channel = FileChannel.open(Paths.get(filename),
+            StandardOpenOption.READ);
+        try
+        {
+            MappedByteBuffer buffer = channel.map(
+                FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            HurricaneSnapshot snapshot = new HurricaneSnapshot();
+            snapshot.decode(buffer);
+            return snapshot;
+        }
+        catch (BufferUnderflowException e)
+        {
+            throw new IOException(filename + " is truncated");
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+
+    /**
+     * Decodes a mapped snapshot.  The sections are sliced out of the
+     * buffer rather than copied, and then checked in one pass.
+     *
+     * @param buffer  the whole snapshot file
+     *
+     * @throws IOException  if the buffer does not hold a snapshot
+     */
+    private void decode(ByteBuffer buffer) throws IOException
+    {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC)
+            throw new IOException("Not a hurricane snapshot");
+        int version = buffer.getInt();
+        if (version != VERSION)
+            throw new IOException("Unsupported snapshot version " + version);
+        int n = buffer.getInt();
+        int monthCount = buffer.getInt();
+        int nameCount = buffer.getInt();
+        int yearRunCount = buffer.getInt();
+        int nameRunCount = buffer.getInt();
+        if (n < 0 || (long) n * ROW_SIZE > buffer.remaining())
+            throw new IOException("Corrupt snapshot: row count " + n);
+        if (yearRunCount < 0 || yearRunCount > n || (n > 0) != (yearRunCount > 0)
+            || nameRunCount < 0 || nameRunCount > n
+            || (n > 0) != (nameRunCount > 0))
+            throw new IOException("Corrupt snapshot: run counts "
+                + yearRunCount + ", " + nameRunCount);
+        long sectionBytes = (long) n * ROW_SIZE
+            + (long) (yearRunCount + nameRunCount) * RUN_SIZE;
+        if (sectionBytes > buffer.remaining())
+            throw new IOException(n + " rows do not fit in the snapshot");
+        if (monthCount < 0 || monthCount > Byte.MAX_VALUE + 1)
+            throw new IOException("Corrupt snapshot: month count " + monthCount);
+        if (nameCount < 0 || 2L * ((long) monthCount + nameCount)
+            > buffer.remaining() - sectionBytes)
+            throw new IOException("Corrupt snapshot: name count " + nameCount);
+
+        IntBuffer years = ints(buffer, n);
+        IntBuffer pressures = ints(buffer, n);
+        IntBuffer speeds = ints(buffer, n);
+        IntBuffer nameIds = ints(buffer, n);
+        yearOrder = ints(buffer, n);
+        nameOrder = ints(buffer, n);
+        speedOrder = ints(buffer, n);
+        pressureOrder = ints(buffer, n);
+        yearKeys = readInts(buffer, yearRunCount);
+        yearStarts = Arrays.copyOf(readInts(buffer, yearRunCount),
+            yearRunCount + 1);
+        yearStarts[yearRunCount] = n;
+        nameKeys = readInts(buffer, nameRunCount);
+        nameStarts = Arrays.copyOf(readInts(buffer, nameRunCount),
+            nameRunCount + 1);
+        nameStarts[nameRunCount] = n;
+        ByteBuffer categories = bytes(buffer, n);
+        ByteBuffer months = bytes(buffer, n);
+
+        List<String> monthNames = new ArrayList<String>(monthCount);
+        for (int code = 0; code < monthCount; code++)
+        {
+            monthNames.add(readString(buffer));
+        }
+        List<String> names = new ArrayList<String>(nameCount);
+        for (int id = 0; id < nameCount; id++)
+        {
+            names.add(readString(buffer));
+        }
+        for (int i = 0; i < n; i++)
+        {
+            int nameId = nameIds.get(i);
+            int month = months.get(i);
+            int category = categories.get(i);
+            if (nameId < 0 || nameId >= nameCount
+                || month < 0 || month >= monthCount
+                || category < 0 || category >= HurricaneStats.CATEGORY_COUNT)
+                throw new IOException("Corrupt snapshot: bad code in row " + i);
+            if (!isRow(yearOrder.get(i), n) || !isRow(nameOrder.get(i), n)
+                || !isRow(speedOrder.get(i), n)
+                || !isRow(pressureOrder.get(i), n))
+                throw new IOException("Corrupt snapshot: bad row in orders at "
+                    + i);
+        }
+        checkRuns(yearKeys, yearStarts, yearOrder, years);
+        checkRuns(nameKeys, nameStarts, nameOrder, nameIds);
+        columns = new HurricaneColumns(n, years, pressures, speeds, categories,
+            months, nameIds, monthNames, names);
+    }
+
+    /**
+     * Determines whether a number read from the file is a row number.
+     *
+     * @param row  the number
+     * @param n    number of rows
+     * @return true if 0 <= row < n; otherwise, false
+     */
+    private static boolean isRow(int row, int n)
+    {
+        return row >= 0 && row < n;
+    }
+
+    /**
+     * Checks that saved runs split an order in increasing positions, each
+     * starting at a row with its key, and that no key repeats.
+     *
+     * @param keys    the key of each run
+     * @param starts  where each run starts, then the order's size
+     * @param order   the order the runs split
+     * @param column  the key of each row
+     *
+     * @throws IOException  if the runs do not fit the order
+     */
+    private static void checkRuns(int[] keys, int[] starts, IntBuffer order,
+        IntBuffer column) throws IOException
+    {
+        Set<Integer> seen = new HashSet<Integer>();
+        for (int k = 0; k < keys.length; k++)
+        {
+            if ((k == 0 && starts[k] != 0) || starts[k] >= starts[k + 1]
+                || column.get(order.get(starts[k])) != keys[k]
+                || !seen.add(keys[k]))
+                throw new IOException("Corrupt snapshot: bad run " + k);
+        }
+    }
+
+    /**
+     * Slices one int section out of the snapshot without copying it.
+     *
+     * @param buffer  the snapshot, positioned at the section
+     * @param n       number of values in the section
+     * @return the section, read in place
+     */
+    private static IntBuffer ints(ByteBuffer buffer, int n)
+    {
+        return bytes(buffer, 4 * n).asIntBuffer();
+    }
+
+    /**
+     * Slices one section of bytes out of the snapshot without copying it.
+     *
+     * @param buffer  the snapshot, positioned at the section
+     * @param n       number of bytes in the section
+     * @return the section, read in place
+     */
+    private static ByteBuffer bytes(ByteBuffer buffer, int n)
+    {
+        ByteBuffer section = buffer.slice();
+        section.limit(n);
+        buffer.position(buffer.position() + n);
+        return section;
+    }
+
+    /**
+     * Copies a short int section, such as the runs, out of the snapshot.
+     *
+     * @param buffer  the snapshot, positioned at the section
+     * @param n       number of values in the section
+     * @return the section's values
+     */
+    private static int[] readInts(ByteBuffer buffer, int n)
+    {
+        int[] values = new int[n];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + 4 * n);
+        return values;
+    }
+
+    /**
+     * Reads one dictionary entry.
+     *
+     * @param buffer  the snapshot, positioned at the entry
+     * @return the entry
+     */
+    private static String readString(ByteBuffer buffer)
+    {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Retrieves the saved hurricane data.
+     *
+     * @return the columns, read in place from the file
+     */
+    public HurricaneColumns getColumns()
+    {
+        return columns;
+    }
+
+    /**
+     * Retrieves the saved order of the rows by year.
+     *
+     * @return the row numbers sorted by year, read in place
+     */
+    IntBuffer getYearOrder()
+    {
+        return yearOrder;
+    }
+
+    /**
+     * Retrieves the saved order of the rows by name.
+     *
+     * @return the row numbers sorted by name, read in place
+     */
+    IntBuffer getNameOrder()
+    {
+        return nameOrder;
+    }
+
+    /**
+     * Retrieves the saved order of the rows by speed.
+     *
+     * @return the row numbers sorted by speed, read in place
+     */
+    IntBuffer getSpeedOrder()
+    {
+        return speedOrder;
+    }
+
+    /**
+     * Retrieves the saved order of the rows by pressure, descending.
+     *
+     * @return the row numbers sorted by pressure, read in place
+     */
+    IntBuffer getPressureOrder()
+    {
+        return pressureOrder;
+    }
+
+    /**
+     * Retrieves the year of each run of the year order.
+     *
+     * @return the years, in increasing order
+     */
+    int[] getYearKeys()
+    {
+        return yearKeys;
+    }
+
+    /**
+     * Retrieves where each run of the year order starts.
+     *
+     * @return the start of each run, then the number of rows
+     */
+    int[] getYearStarts()
+    {
+        return yearStarts;
+    }
+
+    /**
+     * Retrieves the name id of each run of the name order.
+     *
+     * @return the name ids, in name order
+     */
+    int[] getNameKeys()
+    {
+        return nameKeys;
+    }
+
+    /**
+     * Retrieves where each run of the name order starts.
+     *
+     * @return the start of each run, then the number of rows
+     */
+    int[] getNameStarts()
+    {
+        return nameStarts;
+    }
+}
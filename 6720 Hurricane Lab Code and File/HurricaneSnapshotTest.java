@@ -0,0 +1,323 @@
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Tests that a snapshot gives back the same hurricanes, sorted orders
+ * and indexes that were saved, and that a damaged snapshot is reported.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneSnapshotTest
+{
+    private File file;
+
+    /**
+     * Makes a file for each test's snapshot.
+     *
+     * @throws IOException  if the file cannot be made
+     */
+    @Before
+    public void setUp() throws IOException
+    {
+        file = File.createTempFile("hurricanes", ".bin");
+    }
+
+    /**
+     * Removes the test's snapshot.
+     */
+    @After
+    public void tearDown()
+    {
+        file.delete();
+    }
+
+    /**
+     * Makes an organizer of the sample hurricanes and some generated ones.
+     *
+     * @return the organizer
+     *
+     * @throws IOException  if the data file is missing
+     */
+    private static HurricaneOrganizerArray organizer() throws IOException
+    {
+        HurricaneOrganizerArray cane =
+            new HurricaneOrganizerArray("hurricanedata.txt");
+        cane.appendAll(new HurricaneDataGenerator(1).generate(500)
+            .toHurricanes());
+        return cane;
+    }
+
+    /**
+     * Reads every field of every row.
+     *
+     * @param columns  the hurricane data
+     * @return one line per row
+     */
+    private static List<String> rows(HurricaneColumns columns)
+    {
+        List<String> rows = new ArrayList<String>();
+        for (int row = 0; row < columns.size(); row++)
+        {
+            rows.add(columns.getYear(row) + " " + columns.getMonth(row) + " "
+                + columns.getMonthCode(row) + " " + columns.getPressure(row)
+                + " " + columns.getSpeed(row) + " " + columns.getCategory(row)
+                + " " + columns.getName(row) + " " + columns.getNameId(row));
+        }
+        return rows;
+    }
+
+    /**
+     * Reads the organizer's hurricanes after each sort and search.
+     *
+     * @param cane  the organizer
+     * @return the hurricanes as text, one list per sort or search
+     *
+     * @throws IOException  if a report cannot be written
+     */
+    static List<List<String>> behavior(HurricaneOrganizerArray cane)
+        throws IOException
+    {
+        List<List<String>> results = new ArrayList<List<String>>();
+        results.add(HurricaneSorterTest.report(cane));
+        cane.sortYears();
+        results.add(HurricaneSorterTest.report(cane));
+        cane.sortNames();
+        results.add(HurricaneSorterTest.report(cane));
+        cane.sortPressures();
+        results.add(HurricaneSorterTest.report(cane));
+        cane.sortCategories();
+        results.add(HurricaneSorterTest.report(cane));
+        cane.sortWindSpeeds(0, cane.getColumns().size() - 1);
+        results.add(HurricaneSorterTest.report(cane));
+        for (int year = 1980; year <= 2018; year++)
+        {
+            results.add(text(cane.searchYear(year)));
+        }
+        for (String name : new String[] {"Andrew", "Irene", "Katrina", "Zed"})
+        {
+            results.add(text(cane.searchHurricaneName(name)));
+        }
+        return results;
+    }
+
+    /**
+     * Lists hurricanes as text.
+     *
+     * @param hurs  the hurricanes
+     * @return each hurricane's text
+     */
+    private static List<String> text(Hurricane[] hurs)
+    {
+        List<String> found = new ArrayList<String>();
+        for (Hurricane h : hurs)
+        {
+            found.add(h.toString());
+        }
+        return found;
+    }
+
+    /**
+     * The columns read back match the columns saved, the saved orders
+     * are sorted, and the runs cover each order.
+     *
+     * @throws IOException  if the snapshot cannot be written or read
+     */
+    @Test
+    public void columnsRoundTrip() throws IOException
+    {
+        HurricaneOrganizerArray cane = organizer();
+        cane.writeSnapshot(file.getPath());
+        HurricaneSnapshot snapshot = HurricaneSnapshot.read(file.getPath());
+        HurricaneColumns columns = snapshot.getColumns();
+        assertEquals("columns fail", rows(cane.getColumns()), rows(columns));
+
+        IntBuffer years = snapshot.getYearOrder();
+        int[] keys = snapshot.getYearKeys();
+        int[] starts = snapshot.getYearStarts();
+        assertEquals("runs do not end at the last row", columns.size(),
+            starts[keys.length]);
+        for (int k = 0; k < keys.length; k++)
+        {
+            for (int i = starts[k]; i < starts[k + 1]; i++)
+            {
+                assertEquals("year run fails", keys[k],
+                    columns.getYear(years.get(i)));
+                if (i > starts[k])
+                    assertTrue("ties not in row order",
+                        years.get(i - 1) < years.get(i));
+            }
+        }
+        IntBuffer speeds = snapshot.getSpeedOrder();
+        IntBuffer pressures = snapshot.getPressureOrder();
+        for (int i = 1; i < columns.size(); i++)
+        {
+            assertTrue("speed order fails", columns.getSpeed(speeds.get(i - 1))
+                <= columns.getSpeed(speeds.get(i)));
+            assertTrue("pressure order fails",
+                columns.getPressure(pressures.get(i - 1))
+                >= columns.getPressure(pressures.get(i)));
+        }
+    }
+
+    /**
+     * An organizer opened from a snapshot sorts and searches the same as
+     * one that read the text, also after hurricanes are added and
+     * dropped.  Saving it again gives the same file.
+     *
+     * @throws IOException  if a file cannot be written or read
+     */
+    @Test
+    public void organizerRoundTrip() throws IOException
+    {
+        HurricaneOrganizerArray text = organizer();
+        text.writeSnapshot(file.getPath());
+        HurricaneOrganizerArray mapped = organizer();
+        mapped.readSnapshot(file.getPath());
+
+        File again = File.createTempFile("hurricanes", ".bin");
+        try
+        {
+            mapped.writeSnapshot(again.getPath());
+            assertArrayEquals("saving an open snapshot changes it",
+                Files.readAllBytes(file.toPath()),
+                Files.readAllBytes(again.toPath()));
+        }
+        finally
+        {
+            again.delete();
+        }
+
+        assertEquals("snapshot behaves differently", behavior(text),
+            behavior(mapped));
+        for (HurricaneOrganizerArray cane : Arrays.asList(text, mapped))
+        {
+            cane.evictSeason(2005);
+            cane.appendAll(new HurricaneDataGenerator(2).generate(100)
+                .toHurricanes());
+            cane.reclassify(HurricaneCategoryScale.AUSTRALIAN);
+        }
+        assertEquals("snapshot behaves differently after changes",
+            behavior(text), behavior(mapped));
+    }
+
+    /**
+     * A snapshot taken after hurricanes are added, dropped and sorted
+     * holds them in load order.
+     *
+     * @throws IOException  if a file cannot be written or read
+     */
+    @Test
+    public void changedRoundTrip() throws IOException
+    {
+        HurricaneOrganizerArray cane = organizer();
+        cane.evictSeason(1999);
+        cane.sortNames();
+        cane.writeSnapshot(file.getPath());
+
+        HurricaneOrganizerArray expected = organizer();
+        expected.evictSeason(1999);
+        HurricaneOrganizerArray mapped = organizer();
+        mapped.readSnapshot(file.getPath());
+        assertEquals("changed snapshot fails", behavior(expected),
+            behavior(mapped));
+    }
+
+    /**
+     * Opening a snapshot on another scale reclassifies the hurricanes, as
+     * reading the text does.
+     *
+     * @throws IOException  if a file cannot be written or read
+     */
+    @Test
+    public void reclassifiedRoundTrip() throws IOException
+    {
+        HurricaneOrganizerArray text = organizer();
+        text.writeSnapshot(file.getPath());
+        text.reclassify(HurricaneCategoryScale.AUSTRALIAN);
+        HurricaneOrganizerArray mapped = organizer();
+        mapped.reclassify(HurricaneCategoryScale.AUSTRALIAN);
+        mapped.readSnapshot(file.getPath());
+        assertEquals("reclassified snapshot fails", behavior(text),
+            behavior(mapped));
+    }
+
+    /**
+     * A snapshot of no hurricanes opens, and hurricanes can be added.
+     *
+     * @throws IOException  if the snapshot cannot be written or read
+     */
+    @Test
+    public void emptyRoundTrip() throws IOException
+    {
+        HurricaneOrganizerArray cane =
+            new HurricaneOrganizerArray("hurricanedata.txt");
+        for (int year = 1980; year <= 2018; year++)
+        {
+            cane.evictSeason(year);
+        }
+        assertEquals("evict fails", 0, cane.getColumns().size());
+        cane.writeSnapshot(file.getPath());
+        cane.readSnapshot(file.getPath());
+        assertEquals("empty snapshot has rows", 0, cane.getColumns().size());
+        cane.append(new Hurricane(2001, "Aug", 950, 100, "Zed"));
+        cane.sortYears();
+        assertEquals("append after empty snapshot fails", 1,
+            cane.searchHurricaneName("Zed").length);
+    }
+
+    /**
+     * Damage anywhere in the header, columns or orders is reported as
+     * an IOException.
+     *
+     * @throws IOException  if the snapshot cannot be written
+     */
+    @Test
+    public void damagedSnapshots() throws IOException
+    {
+        organizer().writeSnapshot(file.getPath());
+        byte[] good = Files.readAllBytes(file.toPath());
+        int n = ByteBuffer.wrap(good).getInt(8);
+        int header = 28;
+        int[] damaged = {0, 4, 8, header + 12 * n, header + 16 * n + 4,
+            header + 28 * n + 4, header + 32 * n + 4};
+        for (int at : damaged)
+        {
+            byte[] bytes = good.clone();
+            bytes[at] ^= 0x7F;
+            assertUnreadable("damage at " + at + " not found", bytes);
+        }
+        assertUnreadable("truncated snapshot read",
+            Arrays.copyOf(good, good.length / 2));
+        assertUnreadable("empty file read", new byte[0]);
+    }
+
+    /**
+     * Checks that a snapshot cannot be read.
+     *
+     * @param message  names the check
+     * @param bytes    the snapshot
+     *
+     * @throws IOException  if the snapshot cannot be written
+     */
+    private void assertUnreadable(String message, byte[] bytes)
+        throws IOException
+    {
+        Files.write(file.toPath(), bytes);
+        try
+        {
+            HurricaneSnapshot.read(file.getPath());
+            fail(message);
+        }
+        catch (IOException e)
+        {
+        }
+    }
+}
@@ -0,0 +1,218 @@
+import java.nio.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Keeps the rows of a hurricane dataset in one sorted order without
+ * moving the records themselves.  The view is a permutation: position i
+ * holds the row number of the i-th hurricane in the order.
+ *
+ * New rows are added in batches: the batch is sorted on its own and
+ * merged into the order in one pass from the back, each new row placed
+ * by binary search and the rows between placements moved as one block.
+ * Adding m rows to a view of n rows takes O(m log n) comparisons and
+ * moves each existing row at most once, so the order never has to be
+ * sorted again.  Rows that compare equal stay in the order they were
+ * added.
+ *
+ * An order saved in a snapshot can be opened in place: it is read from
+ * the mapped file and copied into an array only when rows are added or
+ * removed.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneSortedView
+{
+    private IntBinaryOperator order;
+    private int[] rows;
+    private int size;
+    private IntBuffer mapped;
+
+    /**
+     * Initializes an empty view.
+     *
+     * @param order  compares two row numbers; negative if the first row
+     *               belongs before the second
+     */
+    public HurricaneSortedView(IntBinaryOperator order)
+    {
+        this.order = order;
+        rows = new int[16];
+    }
+
+    /**
+     * Replaces the view with rows 0 through rowCount - 1, sorted.
+     *
+     * @param rowCount  number of rows in the dataset
+     */
+    public void build(int rowCount)
+    {
+        rows = new int[rowCount];
+        for (int row = 0; row < rowCount; row++)
+        {
+            rows[row] = row;
+        }
+        HurricaneSorter.sortRows(rows, order);
+        size = rowCount;
+        mapped = null;
+    }
+
+    /**
+     * Replaces the view with an order saved earlier, reading it in place.
+     *
+     * @param saved  every row number, already sorted; it must not be
+     *               changed afterward
+     */
+    void open(IntBuffer saved)
+    {
+        mapped = saved;
+        size = saved.limit();
+        rows = null;
+    }
+
+    /**
+     * Copies an order read in place into an array with room to grow.
+     */
+    private void materialize()
+    {
+        if (mapped == null)
+            return;
+        rows = new int[Math.max(16, size)];
+        mapped.duplicate().get(rows, 0, size);
+        mapped = null;
+    }
+
+    /**
+     * Adds new rows in their sorted positions, after any equal rows.
+     *
+     * @param from  the first new row number
+     * @param to    one past the last new row number; every new row is
+     *              greater than the rows already in the view
+     */
+    public void insertAll(int from, int to)
+    {
+        int count = to - from;
+        if (count <= 0)
+            return;
+        materialize();
+        int[] batch = new int[count];
+        for (int i = 0; i < count; i++)
+        {
+            batch[i] = from + i;
+        }
+        HurricaneSorter.sortRows(batch, order);
+        if (size + count > rows.length)
+            rows = Arrays.copyOf(rows, Math.max(size + count, rows.length * 2));
+
+        // Fill from the back: each new row goes after the old rows that
+        // are not greater, and the old rows past it move up as one block
+        int end = size;
+        int dest = size + count;
+        for (int i = count - 1; i >= 0; i--)
+        {
+            int row = batch[i];
+            int at = upperBound(row, end);
+            dest -= end - at;
+            System.arraycopy(rows, at, rows, dest, end - at);
+            dest--;
+            rows[dest] = row;
+            end = at;
+        }
+        size += count;
+    }
+
+    /**
+     * Gives every row its new number after rows are removed, leaving
+     * removed rows out.  Row numbers keep their relative order, so the
+     * rows that remain are still sorted and are not compared again.
+     *
+     * @param newRows  the new row number of each old row, or -1 for a
+     *                 removed row
+     */
+    public void renumber(int[] newRows)
+    {
+        materialize();
+        int kept = 0;
+        for (int i = 0; i < size; i++)
+        {
+            int row = newRows[rows[i]];
+            if (row >= 0)
+            {
+                rows[kept] = row;
+                kept++;
+            }
+        }
+        size = kept;
+    }
+
+    /**
+     * Finds where a row belongs among the first rows of the order.
+     *
+     * @param row  the row to place
+     * @param end  number of leading positions to search
+     * @return the first position before end whose row is greater than
+     *         the given row, or end if there is none
+     */
+    private int upperBound(int row, int end)
+    {
+        int low = 0;
+        int high = end;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (order.applyAsInt(rows[mid], row) <= 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Retrieves the number of rows in the view.
+     *
+     * @return number of rows
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Retrieves the row at a position in the order.
+     *
+     * @param index  the position; 0 <= index < size()
+     * @return the row number
+     */
+    public int row(int index)
+    {
+        if (mapped != null)
+            return mapped.get(index);
+        return rows[index];
+    }
+
+    /**
+     * Finds where the rows stop satisfying a condition.  The condition
+     * must hold for a leading run of the order and fail for the rest,
+     * such as "year is before 1990" in a view sorted by year.
+     *
+     * @param before  true for rows in the leading run
+     * @return the index of the first row that fails the condition, or
+     *         size() if every row satisfies it
+     */
+    public int partitionPoint(IntPredicate before)
+    {
+        int low = 0;
+        int high = size;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (before.test(row(mid)))
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+}
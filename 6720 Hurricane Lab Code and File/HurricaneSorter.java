@@ -0,0 +1,731 @@
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Sorts arrays of hurricanes with a stable merge sort driven by a
+ * Comparator.  Hurricanes that compare equal keep their relative order,
+ * so one sort can be applied after another.
+ *
+ * Short ranges are sorted with insertion sort, and a range that is
+ * already in order is detected in one pass and left alone.  Arrays of
+ * row numbers can be merge sorted the same way, and large ones on
+ * several threads with parallelSortRows.
+ *
+ * Integer keys with a small range, such as the category, year, pressure
+ * or speed, can instead be sorted in linear time with a counting sort or
+ * an LSD radix sort.  These sorts are stable as well.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneSorter
+{
+    /**
+     * Ranges this short or shorter are sorted with insertion sort.
+     */
+    private static final int INSERTION_SORT_CUTOFF = 16;
+
+    /**
+     * Number of key bits handled by each pass of the radix sort.
+     */
+    private static final int RADIX_BITS = 8;
+
+    /**
+     * Ranges this short or shorter are sorted or merged on one thread by
+     * the parallel sort.
+     */
+    private static final int PARALLEL_CUTOFF = 1 << 13;
+
+    /**
+     * Sorts a whole array.
+     *
+     * @param hurs  the hurricanes to sort
+     * @param cmp   the order to sort into
+     */
+    public static void sort(Hurricane[] hurs, Comparator<Hurricane> cmp)
+    {
+        sort(hurs, 0, hurs.length, cmp);
+    }
+
+    /**
+     * Sorts a portion of an array.
+     *
+     * @param hurs  the hurricanes to sort
+     * @param from  the first index to sort
+     * @param to    one past the last index to sort
+     * @param cmp   the order to sort into
+     */
+    public static void sort(Hurricane[] hurs, int from, int to,
+        Comparator<Hurricane> cmp)
+    {
+        if (isSorted(hurs, from, to, cmp))
+            return;
+        if (to - from <= INSERTION_SORT_CUTOFF)
+        {
+            insertionSort(hurs, from, to, cmp);
+            return;
+        }
+        Hurricane[] temp = new Hurricane[to - from];
+        mergeSort(hurs, from, to, cmp, temp, from);
+    }
+
+    /**
+     * Determines whether a range is already in order.
+     *
+     * @param hurs  the hurricanes to check
+     * @param from  the first index to check
+     * @param to    one past the last index to check
+     * @param cmp   the order to check against
+     * @return true if no hurricane is greater than the one after it;
+     *         otherwise, false
+     */
+    private static boolean isSorted(Hurricane[] hurs, int from, int to,
+        Comparator<Hurricane> cmp)
+    {
+        for (int i = from + 1; i < to; i++)
+        {
+            if (cmp.compare(hurs[i - 1], hurs[i]) > 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sorts a range with insertion sort.
+     *
+     * @param hurs  the hurricanes to sort
+     * @param from  the first index to sort
+     * @param to    one past the last index to sort
+     * @param cmp   the order to sort into
+     */
+    static void insertionSort(Hurricane[] hurs, int from, int to,
+        Comparator<Hurricane> cmp)
+    {
+        for (int outer = from + 1; outer < to; outer++)
+        {
+            Hurricane h = hurs[outer];
+            int inner = outer - 1;
+            while (inner >= from && cmp.compare(hurs[inner], h) > 0)
+            {
+                hurs[inner + 1] = hurs[inner];
+                inner--;
+            }
+            hurs[inner + 1] = h;
+        }
+    }
+
+    /**
+     * Recursively sorts a range with merge sort.
+     *
+     * @param hurs  the hurricanes to sort
+     * @param from  the first index to sort
+     * @param to    one past the last index to sort
+     * @param cmp   the order to sort into
+     * @param temp  scratch space; index i of hurs uses index i - base
+     * @param base  the index of hurs that uses index 0 of temp
+     */
+    private static void mergeSort(Hurricane[] hurs, int from, int to,
+        Comparator<Hurricane> cmp, Hurricane[] temp, int base)
+    {
+        if (to - from <= INSERTION_SORT_CUTOFF)
+        {
+            insertionSort(hurs, from, to, cmp);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(hurs, from, mid, cmp, temp, base);
+        mergeSort(hurs, mid, to, cmp, temp, base);
+        // The halves are already in order relative to each other
+        if (cmp.compare(hurs[mid - 1], hurs[mid]) <= 0)
+            return;
+        merge(hurs, from, mid, to, cmp, temp, base);
+    }
+
+    /**
+     * Merges two consecutive sorted ranges.  Ties are taken from the first
+     * range, which keeps the sort stable.
+     *
+     * @param hurs  the hurricanes to merge
+     * @param from  the first index of the first range
+     * @param mid   the first index of the second range
+     * @param to    one past the last index of the second range
+     * @param cmp   the order the ranges are sorted in
+     * @param temp  scratch space; index i of hurs uses index i - base
+     * @param base  the index of hurs that uses index 0 of temp
+     */
+    private static void merge(Hurricane[] hurs, int from, int mid, int to,
+        Comparator<Hurricane> cmp, Hurricane[] temp, int base)
+    {
+        int leftEnd = mid - base;
+        System.arraycopy(hurs, from, temp, from - base, mid - from);
+        int left = from - base;
+        int right = mid;
+        int dest = from;
+        while (left < leftEnd && right < to)
+        {
+            if (cmp.compare(hurs[right], temp[left]) < 0)
+            {
+                hurs[dest] = hurs[right];
+                right++;
+            }
+            else
+            {
+                hurs[dest] = temp[left];
+                left++;
+            }
+            dest++;
+        }
+        System.arraycopy(temp, left, hurs, dest, leftEnd - left);
+    }
+
+    /**
+     * Sorts a whole array by a key between 0 and maxKey with a stable
+     * counting sort.
+     *
+     * @param hurs        the hurricanes to sort
+     * @param key         finds the key of a hurricane
+     * @param maxKey      the largest possible key
+     * @param descending  true to put the largest keys first
+     */
+    public static void countingSort(Hurricane[] hurs,
+        ToIntFunction<Hurricane> key, int maxKey, boolean descending)
+    {
+        int n = hurs.length;
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++)
+        {
+            int k = key.applyAsInt(hurs[i]);
+            if (k < 0 || k > maxKey)
+                throw new IllegalArgumentException("Key out of range: " + k);
+            keys[i] = descending ? maxKey - k : k;
+        }
+        Hurricane[] sorted = new Hurricane[n];
+        int buckets = Integer.highestOneBit(Math.max(maxKey, 1)) << 1;
+        countingPass(hurs, keys, 0, n, sorted, new int[n], 0, buckets);
+        System.arraycopy(sorted, 0, hurs, 0, n);
+    }
+
+    /**
+     * Sorts a portion of an array of row numbers by a key between 0 and
+     * maxKey with a stable counting sort.
+     *
+     * @param rows        the row numbers to sort
+     * @param from        the first index to sort
+     * @param to          one past the last index to sort
+     * @param key         finds the key of a row
+     * @param maxKey      the largest possible key
+     * @param descending  true to put the largest keys first
+     */
+    public static void countingSort(int[] rows, int from, int to,
+        IntUnaryOperator key, int maxKey, boolean descending)
+    {
+        int n = to - from;
+        int[] keys = new int[n];
+        int[] starts = new int[maxKey + 2];
+        for (int i = 0; i < n; i++)
+        {
+            int k = key.applyAsInt(rows[from + i]);
+            if (k < 0 || k > maxKey)
+                throw new IllegalArgumentException("Key out of range: " + k);
+            keys[i] = descending ? maxKey - k : k;
+            starts[keys[i] + 1]++;
+        }
+        for (int k = 0; k <= maxKey; k++)
+        {
+            starts[k + 1] += starts[k];
+        }
+        int[] sorted = new int[n];
+        for (int i = 0; i < n; i++)
+        {
+            sorted[starts[keys[i]]] = rows[from + i];
+            starts[keys[i]]++;
+        }
+        System.arraycopy(sorted, 0, rows, from, n);
+    }
+
+    /**
+     * Sorts a whole array by an integer key with a stable LSD radix sort.
+     *
+     * @param hurs        the hurricanes to sort
+     * @param key         finds the key of a hurricane
+     * @param descending  true to put the largest keys first
+     */
+    public static void radixSort(Hurricane[] hurs,
+        ToIntFunction<Hurricane> key, boolean descending)
+    {
+        radixSort(hurs, 0, hurs.length, key, descending);
+    }
+
+    /**
+     * Sorts a portion of an array by an integer key with a stable LSD radix
+     * sort.  Keys are shifted to start at 0, so the number of passes
+     * depends only on the spread between the smallest and largest key;
+     * one pass covers any spread under 256.
+     *
+     * @param hurs        the hurricanes to sort
+     * @param from        the first index to sort
+     * @param to          one past the last index to sort
+     * @param key         finds the key of a hurricane
+     * @param descending  true to put the largest keys first
+     */
+    public static void radixSort(Hurricane[] hurs, int from, int to,
+        ToIntFunction<Hurricane> key, boolean descending)
+    {
+        int n = to - from;
+        if (n < 2)
+            return;
+        int[] keys = new int[n];
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++)
+        {
+            keys[i] = key.applyAsInt(hurs[from + i]);
+            min = Math.min(min, keys[i]);
+            max = Math.max(max, keys[i]);
+        }
+        for (int i = 0; i < n; i++)
+        {
+            keys[i] = descending ? max - keys[i] : keys[i] - min;
+        }
+        long spread = (long) max - min;
+
+        Hurricane[] src = new Hurricane[n];
+        System.arraycopy(hurs, from, src, 0, n);
+        Hurricane[] dest = new Hurricane[n];
+        int[] destKeys = new int[n];
+        int shift = 0;
+        do
+        {
+            countingPass(src, keys, 0, n, dest, destKeys, shift, 1 << RADIX_BITS);
+            Hurricane[] tempHurs = src;
+            src = dest;
+            dest = tempHurs;
+            int[] tempKeys = keys;
+            keys = destKeys;
+            destKeys = tempKeys;
+            shift += RADIX_BITS;
+        }
+        while (shift < 32 && (spread >>> shift) > 0);
+        System.arraycopy(src, 0, hurs, from, n);
+    }
+
+    /**
+     * Moves hurricanes into buckets by one digit of their keys, keeping
+     * the order of hurricanes within each bucket.
+     *
+     * @param src       the hurricanes to distribute
+     * @param keys      the key of each hurricane in src; keys >= 0
+     * @param from      the first index of src to distribute
+     * @param to        one past the last index of src to distribute
+     * @param dest      receives the hurricanes starting at index 0
+     * @param destKeys  receives the keys in the same order as dest
+     * @param shift     number of low key bits to skip
+     * @param buckets   number of digit values; a power of two
+     */
+    private static void countingPass(Hurricane[] src, int[] keys, int from,
+        int to, Hurricane[] dest, int[] destKeys, int shift, int buckets)
+    {
+        int mask = buckets - 1;
+        int[] starts = new int[buckets + 1];
+        for (int i = from; i < to; i++)
+        {
+            starts[((keys[i] >>> shift) & mask) + 1]++;
+        }
+        for (int b = 0; b < buckets; b++)
+        {
+            starts[b + 1] += starts[b];
+        }
+        for (int i = from; i < to; i++)
+        {
+            int b = (keys[i] >>> shift) & mask;
+            dest[starts[b]] = src[i];
+            destKeys[starts[b]] = keys[i];
+            starts[b]++;
+        }
+    }
+
+    /**
+     * Sorts an array of row numbers with a stable merge sort.
+     *
+     * @param rows  the row numbers to sort
+     * @param cmp   compares two row numbers
+     */
+    public static void sortRows(int[] rows, IntBinaryOperator cmp)
+    {
+        sortRows(rows, 0, rows.length, cmp);
+    }
+
+    /**
+     * Sorts a portion of an array of row numbers with a stable merge sort.
+     *
+     * @param rows  the row numbers to sort
+     * @param from  the first index to sort
+     * @param to    one past the last index to sort
+     * @param cmp   compares two row numbers
+     */
+    public static void sortRows(int[] rows, int from, int to,
+        IntBinaryOperator cmp)
+    {
+        if (to - from > 1)
+            sortRows(rows, from, to, cmp, new int[to - from], from);
+    }
+
+    /**
+     * Recursively sorts a range of row numbers with merge sort.
+     *
+     * @param rows  the row numbers to sort
+     * @param from  the first index to sort
+     * @param to    one past the last index to sort
+     * @param cmp   compares two row numbers
+     * @param temp  scratch space; index i of rows uses index i - base
+     * @param base  the index of rows that uses index 0 of temp
+     */
+    private static void sortRows(int[] rows, int from, int to,
+        IntBinaryOperator cmp, int[] temp, int base)
+    {
+        if (to - from <= INSERTION_SORT_CUTOFF)
+        {
+            for (int outer = from + 1; outer < to; outer++)
+            {
+                int row = rows[outer];
+                int inner = outer - 1;
+                while (inner >= from && cmp.applyAsInt(rows[inner], row) > 0)
+                {
+                    rows[inner + 1] = rows[inner];
+                    inner--;
+                }
+                rows[inner + 1] = row;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sortRows(rows, from, mid, cmp, temp, base);
+        sortRows(rows, mid, to, cmp, temp, base);
+        // The halves are already in order relative to each other
+        if (cmp.applyAsInt(rows[mid - 1], rows[mid]) <= 0)
+            return;
+        int leftEnd = mid - base;
+        System.arraycopy(rows, from, temp, from - base, mid - from);
+        int left = from - base;
+        int right = mid;
+        int dest = from;
+        while (left < leftEnd && right < to)
+        {
+            if (cmp.applyAsInt(rows[right], temp[left]) < 0)
+            {
+                rows[dest] = rows[right];
+                right++;
+            }
+            else
+            {
+                rows[dest] = temp[left];
+                left++;
+            }
+            dest++;
+        }
+        System.arraycopy(temp, left, rows, dest, leftEnd - left);
+    }
+
+    /**
+     * Sorts a portion of an array of row numbers with a stable merge sort
+     * that runs on several threads of the common fork-join pool.  The two
+     * halves of a large range are sorted at the same time, and merging a
+     * large range is itself split between threads.  One scratch array, as
+     * long as the range, is made up front and shared by every task; no
+     * sort or merge makes another.
+     *
+     * @param rows  the row numbers to sort
+     * @param from  the first index to sort
+     * @param to    one past the last index to sort
+     * @param cmp   compares two row numbers
+     */
+    public static void parallelSortRows(int[] rows, int from, int to,
+        IntBinaryOperator cmp)
+    {
+        if (to - from <= PARALLEL_CUTOFF
+            || ForkJoinPool.getCommonPoolParallelism() <= 1)
+        {
+            sortRows(rows, from, to, cmp);
+            return;
+        }
+        int[] temp = new int[to - from];
+        ForkJoinPool.commonPool().invoke(
+            new SortTask(rows, from, to, cmp, temp, from));
+    }
+
+    /**
+     * Sorts one range of a parallel merge sort.
+     */
+    private static class SortTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private int[] rows;
+        private int from;
+        private int to;
+        private IntBinaryOperator cmp;
+        private int[] temp;
+        private int base;
+
+        /**
+         * Initializes a task for a range.
+         *
+         * @param rows  the row numbers to sort
+         * @param from  the first index to sort
+         * @param to    one past the last index to sort
+         * @param cmp   compares two row numbers
+         * @param temp  scratch space shared by every task
+         * @param base  the index of rows that uses index 0 of temp
+         */
+        SortTask(int[] rows, int from, int to, IntBinaryOperator cmp,
+            int[] temp, int base)
+        {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.cmp = cmp;
+            this.temp = temp;
+            this.base = base;
+        }
+
+        /**
+         * Sorts the range.  A short range is sorted on this thread in its
+         * own part of the scratch array; otherwise the halves are sorted
+         * in parallel and then merged from the scratch array back into
+         * place.
+         */
+        protected void compute()
+        {
+            if (to - from <= PARALLEL_CUTOFF)
+            {
+                sortRows(rows, from, to, cmp, temp, base);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(rows, from, mid, cmp, temp, base),
+                new SortTask(rows, mid, to, cmp, temp, base));
+            if (cmp.applyAsInt(rows[mid - 1], rows[mid]) <= 0)
+                return;
+            System.arraycopy(rows, from, temp, from - base, to - from);
+            new MergeTask(temp, from - base, mid - base, mid - base, to - base,
+                rows, from, cmp).compute();
+        }
+    }
+
+    /**
+     * Merges two sorted runs of one array into another array.  A long
+     * merge is split around the middle element of the longer run, found
+     * in the shorter run by binary search, and the two smaller merges run
+     * in parallel.
+     */
+    private static class MergeTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private int[] src;
+        private int leftFrom;
+        private int leftTo;
+        private int rightFrom;
+        private int rightTo;
+        private int[] dest;
+        private int destFrom;
+        private IntBinaryOperator cmp;
+
+        /**
+         * Initializes a task for two runs.
+         *
+         * @param src        holds both runs
+         * @param leftFrom   the first index of the first run
+         * @param leftTo     one past the last index of the first run
+         * @param rightFrom  the first index of the second run
+         * @param rightTo    one past the last index of the second run
+         * @param dest       receives the merged row numbers
+         * @param destFrom   the index in dest of the first merged row
+         * @param cmp        compares two row numbers
+         */
+        MergeTask(int[] src, int leftFrom, int leftTo, int rightFrom,
+            int rightTo, int[] dest, int destFrom, IntBinaryOperator cmp)
+        {
+            this.src = src;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.dest = dest;
+            this.destFrom = destFrom;
+            this.cmp = cmp;
+        }
+
+        /**
+         * Merges the runs.  Ties are taken from the first run.
+         */
+        protected void compute()
+        {
+            int leftLength = leftTo - leftFrom;
+            int rightLength = rightTo - rightFrom;
+            if (leftLength + rightLength <= PARALLEL_CUTOFF)
+            {
+                mergeInto();
+                return;
+            }
+            int leftMid;
+            int rightMid;
+            if (leftLength >= rightLength)
+            {
+                // Second-run rows equal to the pivot go after it
+                leftMid = (leftFrom + leftTo) >>> 1;
+                rightMid = search(rightFrom, rightTo, src[leftMid], false);
+            }
+            else
+            {
+                // First-run rows equal to the pivot go before it
+                rightMid = (rightFrom + rightTo) >>> 1;
+                leftMid = search(leftFrom, leftTo, src[rightMid], true);
+            }
+            int destMid = destFrom + (leftMid - leftFrom) + (rightMid - rightFrom);
+            invokeAll(new MergeTask(src, leftFrom, leftMid, rightFrom, rightMid,
+                    dest, destFrom, cmp),
+                new MergeTask(src, leftMid, leftTo, rightMid, rightTo,
+                    dest, destMid, cmp));
+        }
+
+        /**
+         * Merges the runs on this thread.
+         */
+        private void mergeInto()
+        {
+            int left = leftFrom;
+            int right = rightFrom;
+            int d = destFrom;
+            while (left < leftTo && right < rightTo)
+            {
+                if (cmp.applyAsInt(src[right], src[left]) < 0)
+                {
+                    dest[d] = src[right];
+                    right++;
+                }
+                else
+                {
+                    dest[d] = src[left];
+                    left++;
+                }
+                d++;
+            }
+            System.arraycopy(src, left, dest, d, leftTo - left);
+            d += leftTo - left;
+            System.arraycopy(src, right, dest, d, rightTo - right);
+        }
+
+        /**
+         * Finds where a row would go in a sorted run of src.
+         *
+         * @param from         the first index of the run
+         * @param to           one past the last index of the run
+         * @param row          the row to place
+         * @param afterEquals  true to place the row after rows equal to
+         *                     it, false to place it before them
+         * @return the index of the first row that the row goes before
+         */
+        private int search(int from, int to, int row, boolean afterEquals)
+        {
+            while (from < to)
+            {
+                int mid = (from + to) >>> 1;
+                int c = cmp.applyAsInt(src[mid], row);
+                if (c < 0 || (afterEquals && c == 0))
+                    from = mid + 1;
+                else
+                    to = mid;
+            }
+            return from;
+        }
+    }
+
+    /**
+     * Orders every row of a dataset by several keys at once.  Each row's
+     * keys are packed into one long, most important key in the highest
+     * bits and the row number in the lowest bits, and the longs are sorted
+     * with a single primitive sort.  Each key takes only as many bits as
+     * the spread of its values needs.  Rows that tie on every key stay in
+     * row order.
+     *
+     * @param columns     the hurricane data
+     * @param keys        the keys, most important first
+     * @param descending  for each key, true to put the largest values first
+     * @return the row numbers in sorted order
+     *
+     * @throws IllegalArgumentException  if the keys and row numbers need
+     *                                   more than 63 bits
+     */
+    public static int[] sortRows(HurricaneColumns columns, HurricaneKey[] keys,
+        boolean[] descending)
+    {
+        int n = columns.size();
+        int[][] values = new int[keys.length][];
+        int[] mins = new int[keys.length];
+        long[] spreads = new long[keys.length];
+        int[] bits = new int[keys.length];
+        int rowBits = bitsFor(Math.max(n - 1, 0));
+        int totalBits = rowBits;
+        int[] nameRanks = null;
+        for (int k = 0; k < keys.length; k++)
+        {
+            if (keys[k] == HurricaneKey.NAME && nameRanks == null)
+                nameRanks = columns.nameRanks();
+            values[k] = new int[n];
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int row = 0; row < n; row++)
+            {
+                int v = keys[k].valueOf(columns, row);
+                if (keys[k] == HurricaneKey.NAME)
+                    v = nameRanks[v];
+                values[k][row] = v;
+                min = Math.min(min, v);
+                max = Math.max(max, v);
+            }
+            mins[k] = min;
+            spreads[k] = n == 0 ? 0 : (long) max - min;
+            bits[k] = bitsFor(spreads[k]);
+            totalBits += bits[k];
+        }
+        if (totalBits > 63)
+            throw new IllegalArgumentException("Sort keys need " + totalBits
+                + " bits; at most 63 fit in one sort key");
+
+        long[] packed = new long[n];
+        for (int row = 0; row < n; row++)
+        {
+            long key = 0;
+            for (int k = 0; k < keys.length; k++)
+            {
+                long v = (long) values[k][row] - mins[k];
+                if (descending[k])
+                    v = spreads[k] - v;
+                key = (key << bits[k]) | v;
+            }
+            packed[row] = (key << rowBits) | row;
+        }
+        Arrays.sort(packed);
+
+        long rowMask = (1L << rowBits) - 1;
+        int[] rows = new int[n];
+        for (int i = 0; i < n; i++)
+        {
+            rows[i] = (int) (packed[i] & rowMask);
+        }
+        return rows;
+    }
+
+    /**
+     * Counts the bits needed to hold a non-negative value.
+     *
+     * @param value  the value; value >= 0
+     * @return number of bits needed
+     */
+    private static int bitsFor(long value)
+    {
+        return 64 - Long.numberOfLeadingZeros(value);
+    }
+}
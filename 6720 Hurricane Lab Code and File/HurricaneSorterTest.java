@@ -0,0 +1,326 @@
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Tests the sorts in HurricaneSorter and the sort methods of the
+ * organizer against Java's stable sorts of the same data, including the
+ * order of ties.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneSorterTest
+{
+    /**
+     * Makes a random set of hurricanes with many ties on every key.
+     *
+     * @param count  number of hurricanes
+     * @return the hurricanes
+     */
+    private static HurricaneColumns columns(int count)
+    {
+        return new HurricaneDataGenerator(count).generate(count);
+    }
+
+    /**
+     * Lists row numbers in row order.
+     *
+     * @param count  number of rows
+     * @return 0, 1, ..., count - 1
+     */
+    private static int[] identity(int count)
+    {
+        int[] rows = new int[count];
+        for (int row = 0; row < count; row++)
+        {
+            rows[row] = row;
+        }
+        return rows;
+    }
+
+    /**
+     * Sorts row numbers with Java's stable object sort.
+     *
+     * @param rows  the row numbers, which are not changed
+     * @param from  the first index to sort
+     * @param to    one past the last index to sort
+     * @param cmp   compares two row numbers
+     * @return a sorted copy of the row numbers
+     */
+    private static int[] expected(int[] rows, int from, int to,
+        IntBinaryOperator cmp)
+    {
+        Integer[] boxed = new Integer[to - from];
+        for (int i = from; i < to; i++)
+        {
+            boxed[i - from] = rows[i];
+        }
+        Arrays.sort(boxed, (a, b) -> cmp.applyAsInt(a, b));
+        int[] sorted = rows.clone();
+        for (int i = from; i < to; i++)
+        {
+            sorted[i] = boxed[i - from];
+        }
+        return sorted;
+    }
+
+    /**
+     * Shuffles row numbers the same way every run.
+     *
+     * @param rows  the row numbers
+     * @param seed  chooses the order
+     */
+    private static void shuffle(int[] rows, long seed)
+    {
+        Random random = new Random(seed);
+        for (int i = rows.length - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            int row = rows[i];
+            rows[i] = rows[j];
+            rows[j] = row;
+        }
+    }
+
+    /**
+     * Reads the organizer's hurricanes in their current order.
+     *
+     * @param cane  the organizer
+     * @return one CSV line per hurricane
+     *
+     * @throws IOException  if the report cannot be written
+     */
+    static List<String> report(HurricaneOrganizerArray cane) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cane.writeReport(out, HurricaneReportWriter.Format.CSV);
+        List<String> lines = new ArrayList<String>(
+            Arrays.asList(out.toString().split("\n")));
+        lines.remove(0);
+        return lines;
+    }
+
+    /**
+     * Sorts report lines with Java's stable sort by one field.
+     *
+     * @param lines       the lines, which are not changed
+     * @param field       the field to sort by: 0 year, 2 name, 3 category,
+     *                    4 speed, 5 pressure
+     * @param descending  true to put the largest values first
+     * @return the sorted lines
+     */
+    static List<String> sortedBy(List<String> lines, int field,
+        boolean descending)
+    {
+        Comparator<String> cmp = field == 2
+            ? Comparator.comparing((String line) -> line.split(",")[2])
+            : Comparator.comparingInt(
+                (String line) -> Integer.parseInt(line.split(",")[field]));
+        List<String> sorted = new ArrayList<String>(lines);
+        sorted.sort(descending ? cmp.reversed() : cmp);
+        return sorted;
+    }
+
+    /**
+     * The row merge sort matches a stable sort, ties included.
+     */
+    @Test
+    public void sortRowsIsStable()
+    {
+        HurricaneColumns columns = columns(5000);
+        int[] rows = identity(columns.size());
+        shuffle(rows, 1);
+        IntBinaryOperator bySpeed = (a, b) -> Integer.compare(
+            columns.getSpeed(a), columns.getSpeed(b));
+        int[] want = expected(rows, 0, rows.length, bySpeed);
+        HurricaneSorter.sortRows(rows, bySpeed);
+        assertArrayEquals("sortRows fails", want, rows);
+    }
+
+    /**
+     * Sorting part of an array leaves the rest alone.
+     */
+    @Test
+    public void sortRowsRange()
+    {
+        HurricaneColumns columns = columns(300);
+        int[] rows = identity(columns.size());
+        shuffle(rows, 2);
+        IntBinaryOperator byYear = (a, b) -> Integer.compare(
+            columns.getYear(a), columns.getYear(b));
+        int[] want = expected(rows, 40, 250, byYear);
+        HurricaneSorter.sortRows(rows, 40, 250, byYear);
+        assertArrayEquals("sortRows range fails", want, rows);
+        HurricaneSorter.sortRows(rows, 7, 7, byYear);
+        HurricaneSorter.sortRows(rows, 7, 8, byYear);
+        assertArrayEquals("sortRows of an empty range fails", want, rows);
+    }
+
+    /**
+     * The parallel merge sort matches a stable sort, both over the whole
+     * array and over a range long enough to be split between threads.
+     */
+    @Test
+    public void parallelSortRowsIsStable()
+    {
+        HurricaneColumns columns = columns(100000);
+        int[] speeds = columns.speedColumn();
+        IntBinaryOperator bySpeed = (a, b) -> Integer.compare(speeds[a],
+            speeds[b]);
+        int[] rows = identity(columns.size());
+        shuffle(rows, 3);
+        int[] want = expected(rows, 0, rows.length, bySpeed);
+        HurricaneSorter.parallelSortRows(rows, 0, rows.length, bySpeed);
+        assertArrayEquals("parallelSortRows fails", want, rows);
+
+        shuffle(rows, 4);
+        want = expected(rows, 123, 98765, bySpeed);
+        HurricaneSorter.parallelSortRows(rows, 123, 98765, bySpeed);
+        assertArrayEquals("parallelSortRows range fails", want, rows);
+    }
+
+    /**
+     * The counting sort keeps ties in order, sorts either way and
+     * rejects keys out of range.
+     */
+    @Test
+    public void countingSort()
+    {
+        HurricaneColumns columns = columns(2000);
+        int[] rows = identity(columns.size());
+        shuffle(rows, 5);
+        IntBinaryOperator byCategory = (a, b) -> Integer.compare(
+            columns.getCategory(b), columns.getCategory(a));
+        int[] want = expected(rows, 10, 1990, byCategory);
+        HurricaneSorter.countingSort(rows, 10, 1990, columns::getCategory,
+            HurricaneStats.CATEGORY_COUNT - 1, true);
+        assertArrayEquals("countingSort descending fails", want, rows);
+
+        IntBinaryOperator byMonth = (a, b) -> Integer.compare(
+            columns.getMonthCode(a), columns.getMonthCode(b));
+        want = expected(rows, 0, rows.length, byMonth);
+        HurricaneSorter.countingSort(rows, 0, rows.length,
+            columns::getMonthCode, columns.monthCount() - 1, false);
+        assertArrayEquals("countingSort ascending fails", want, rows);
+
+        try
+        {
+            HurricaneSorter.countingSort(rows, 0, rows.length,
+                columns::getSpeed, 10, false);
+            fail("countingSort accepts a key out of range");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    /**
+     * The compound sort orders by every key in turn, then by row.
+     */
+    @Test
+    public void compoundSort()
+    {
+        HurricaneColumns columns = columns(3000);
+        int[] want = expected(identity(columns.size()), 0, columns.size(),
+            (a, b) ->
+            {
+                int c = Integer.compare(columns.getYear(a), columns.getYear(b));
+                if (c == 0)
+                    c = Integer.compare(columns.getPressure(b),
+                        columns.getPressure(a));
+                if (c == 0)
+                    c = Integer.compare(columns.getSpeed(a),
+                        columns.getSpeed(b));
+                return c;
+            });
+        int[] rows = HurricaneSorter.sortRows(columns,
+            new HurricaneKey[] {HurricaneKey.YEAR, HurricaneKey.PRESSURE,
+                HurricaneKey.SPEED},
+            new boolean[] {false, true, false});
+        assertArrayEquals("compound sort fails", want, rows);
+    }
+
+    /**
+     * A sorted view stays sorted as rows are added and removed.
+     */
+    @Test
+    public void sortedView()
+    {
+        HurricaneColumns columns = columns(500);
+        HurricaneSortedView view = new HurricaneSortedView(
+            (a, b) -> Integer.compare(columns.getYear(a), columns.getYear(b)));
+        view.build(300);
+        view.insertAll(300, 500);
+        int[] want = expected(identity(500), 0, 500,
+            (a, b) -> Integer.compare(columns.getYear(a), columns.getYear(b)));
+        assertEquals("insertAll fails", 500, view.size());
+        for (int i = 0; i < want.length; i++)
+        {
+            assertEquals("insertAll fails at " + i, want[i], view.row(i));
+        }
+
+        int[] newRows = new int[500];
+        int next = 0;
+        for (int row = 0; row < 500; row++)
+        {
+            newRows[row] = row % 3 == 0 ? -1 : next++;
+        }
+        view.renumber(newRows);
+        assertEquals("renumber fails", next, view.size());
+        int i = 0;
+        for (int row : want)
+        {
+            if (newRows[row] >= 0)
+            {
+                assertEquals("renumber fails at " + i, newRows[row],
+                    view.row(i));
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Every sort of the organizer puts the hurricanes in the same order
+     * as a stable sort of them, both as loaded and after more are added.
+     * The maintained orders break ties by load order; the counting and
+     * merge sorts keep the current order of ties.
+     *
+     * @throws IOException  if the data file is missing
+     */
+    @Test
+    public void organizerSorts() throws IOException
+    {
+        HurricaneOrganizerArray cane =
+            new HurricaneOrganizerArray("hurricanedata.txt");
+        for (int round = 0; round < 2; round++)
+        {
+            List<String> loaded = report(cane);
+            cane.sortYears();
+            assertEquals("sortYears fails", sortedBy(loaded, 0, false),
+                report(cane));
+            cane.sortNames();
+            assertEquals("sortNames fails", sortedBy(loaded, 2, false),
+                report(cane));
+            List<String> byName = report(cane);
+            cane.sortCategories();
+            assertEquals("sortCategories fails", sortedBy(byName, 3, true),
+                report(cane));
+            cane.sortPressures();
+            assertEquals("sortPressures fails", sortedBy(loaded, 5, true),
+                report(cane));
+            cane.shuffle(new Random(6));
+            List<String> shuffled = report(cane);
+            cane.sortWindSpeeds(0, loaded.size() - 1);
+            assertEquals("sortWindSpeeds fails", sortedBy(shuffled, 4, false),
+                report(cane));
+
+            cane.readFile("hurricanedata.txt");
+            cane.appendAll(new HurricaneDataGenerator(7).generate(200)
+                .toHurricanes());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/**
+ * Holds the summary statistics of a group of hurricanes: the minimum and
+ * maximum speed and pressure, the totals behind each average and the
+ * number of hurricanes in each category.  Every value is gathered in the
+ * same pass over the data.
+ *
+ * With no hurricanes there is no minimum, maximum or average; those are
+ * reported as 0, and getCount tells the case apart.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneStats
+{
+    /**
+     * Number of categories on the Saffir/Simpson scale, including 0.
+     */
+    public static final int CATEGORY_COUNT = 6;
+
+    private int count;
+    private int minSpeed;
+    private int maxSpeed;
+    private int minPressure;
+    private int maxPressure;
+    private long speedTotal;
+    private long pressureTotal;
+    private long categoryTotal;
+    private int[] categoryCounts;
+
+    /**
+     * Initializes statistics for no hurricanes.
+     */
+    public HurricaneStats()
+    {
+        minSpeed = Integer.MAX_VALUE;
+        maxSpeed = Integer.MIN_VALUE;
+        minPressure = Integer.MAX_VALUE;
+        maxPressure = Integer.MIN_VALUE;
+        categoryCounts = new int[CATEGORY_COUNT];
+    }
+
+    /**
+     * Computes the statistics of every row of a set of columns in one pass.
+     *
+     * @param columns  the hurricane data
+     * @return the statistics of all the rows
+     */
+    public static HurricaneStats of(HurricaneColumns columns)
+    {
+        HurricaneStats stats = new HurricaneStats();
+        int[] speeds = columns.speedColumn();
+        int[] pressures = columns.pressureColumn();
+        int[] categories = columns.categoryColumn();
+        for (int i = 0; i < columns.size(); i++)
+        {
+            stats.add(pressures[i], speeds[i], categories[i]);
+        }
+        return stats;
+    }
+
+    /**
+     * Includes one more hurricane in the statistics.
+     *
+     * @param pressure  hurricane's pressure
+     * @param speed     hurricane's speed in knots
+     * @param category  hurricane's category; 0 <= category < CATEGORY_COUNT
+     */
+    public void add(int pressure, int speed, int category)
+    {
+        count++;
+        if (speed < minSpeed)
+            minSpeed = speed;
+        if (speed > maxSpeed)
+            maxSpeed = speed;
+        if (pressure < minPressure)
+            minPressure = pressure;
+        if (pressure > maxPressure)
+            maxPressure = pressure;
+        speedTotal += speed;
+        pressureTotal += pressure;
+        categoryTotal += category;
+        categoryCounts[category]++;
+    }
+
+    /**
+     * Includes every hurricane of another set of statistics.
+     *
+     * @param other  statistics of hurricanes not yet included
+     */
+    public void addAll(HurricaneStats other)
+    {
+        count += other.count;
+        minSpeed = Math.min(minSpeed, other.minSpeed);
+        maxSpeed = Math.max(maxSpeed, other.maxSpeed);
+        minPressure = Math.min(minPressure, other.minPressure);
+        maxPressure = Math.max(maxPressure, other.maxPressure);
+        speedTotal += other.speedTotal;
+        pressureTotal += other.pressureTotal;
+        categoryTotal += other.categoryTotal;
+        for (int category = 0; category < CATEGORY_COUNT; category++)
+        {
+            categoryCounts[category] += other.categoryCounts[category];
+        }
+    }
+
+    /**
+     * Retrieves the number of hurricanes.
+     *
+     * @return number of hurricanes included
+     */
+    public int getCount()
+    {
+        return count;
+    }
+
+    /**
+     * Retrieves the minimum wind speed.
+     *
+     * @return min wind speed, or 0 if there are no hurricanes
+     */
+    public int getMinSpeed()
+    {
+        return count == 0 ? 0 : minSpeed;
+    }
+
+    /**
+     * Retrieves the maximum wind speed.
+     *
+     * @return max wind speed, or 0 if there are no hurricanes
+     */
+    public int getMaxSpeed()
+    {
+        return count == 0 ? 0 : maxSpeed;
+    }
+
+    /**
+     * Retrieves the minimum pressure.
+     *
+     * @return min pressure, or 0 if there are no hurricanes
+     */
+    public int getMinPressure()
+    {
+        return count == 0 ? 0 : minPressure;
+    }
+
+    /**
+     * Retrieves the maximum pressure.
+     *
+     * @return max pressure, or 0 if there are no hurricanes
+     */
+    public int getMaxPressure()
+    {
+        return count == 0 ? 0 : maxPressure;
+    }
+
+    /**
+     * Calculates the average wind speed.
+     *
+     * @return average wind speed, or 0 if there are no hurricanes
+     */
+    public double getAverageSpeed()
+    {
+        return count == 0 ? 0 : (double) speedTotal / count;
+    }
+
+    /**
+     * Calculates the average pressure.
+     *
+     * @return average pressure, or 0 if there are no hurricanes
+     */
+    public double getAveragePressure()
+    {
+        return count == 0 ? 0 : (double) pressureTotal / count;
+    }
+
+    /**
+     * Calculates the average category.
+     *
+     * @return average category, or 0 if there are no hurricanes
+     */
+    public double getAverageCategory()
+    {
+        return count == 0 ? 0 : (double) categoryTotal / count;
+    }
+
+    /**
+     * Retrieves the number of hurricanes in a category.
+     *
+     * @param category  the category; 0 <= category < CATEGORY_COUNT
+     * @return number of hurricanes in the category
+     */
+    public int getCategoryCount(int category)
+    {
+        return categoryCounts[category];
+    }
+}
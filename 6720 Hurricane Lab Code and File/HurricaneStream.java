@@ -0,0 +1,227 @@
+import java.io.*;
+import java.util.function.*;
+
+/**
+ * Reads a hurricane file one record at a time, for archives too large to
+ * load into memory.  The file is read through a fixed-size buffer and
+ * every record is placed in the same HurricaneCursor, so a whole file is
+ * summarised with no object created per record.  Memory use depends only
+ * on the longest line and the number of distinct months and names, not
+ * on the size of the file.
+ *
+ * The static methods run statistics, filters and top-K searches over a
+ * whole file in one pass.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneStream implements Closeable
+{
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private InputStream in;
+    private byte[] buffer;
+    private int pos;
+    private int limit;
+    private boolean endOfFile;
+    private int line;
+    private HurricaneCategoryScale scale;
+    private HurricaneColumns dictionaries;
+    private HurricaneTokenizer tokens;
+    private HurricaneCursor cursor;
+
+    /**
+     * Opens a hurricane file, with categories on the Saffir/Simpson scale.
+     *
+     * @param filename  file name to be read
+     *
+     * @throws IOException  if file is not found
+     */
+    public HurricaneStream(String filename) throws IOException
+    {
+        this(filename, HurricaneCategoryScale.SAFFIR_SIMPSON);
+    }
+
+    /**
+     * Opens a hurricane file.
+     *
+     * @param filename  file name to be read
+     * @param scale     the scale to put the categories on
+     *
+     * @throws IOException  if file is not found
+     */
+    public HurricaneStream(String filename, HurricaneCategoryScale scale)
+        throws IOException
+    {
+        in = new FileInputStream(filename);
+        buffer = new byte[BUFFER_SIZE];
+        line = 1;
+        this.scale = scale;
+        dictionaries = new HurricaneColumns(1);
+        tokens = new HurricaneTokenizer();
+        cursor = new HurricaneCursor(dictionaries, scale);
+    }
+
+    /**
+     * Moves the cursor to the next record.  Blank lines are skipped.
+     *
+     * @return true if the cursor holds a new record; false at the end of
+     *         the file
+     *
+     * @throws IOException  if the file cannot be read or a line is malformed
+     */
+    public boolean next() throws IOException
+    {
+        int scan = pos;
+        while (true)
+        {
+            while (scan < limit && buffer[scan] != '\n')
+                scan++;
+            if (scan == limit && !endOfFile)
+            {
+                scan -= pos;
+                fill();
+                continue;
+            }
+            if (pos == limit)
+                return false;
+
+            int end = Math.min(scan + 1, limit);
+            tokens.reset(buffer, pos, end, pos, line);
+            pos = end;
+            scan = end;
+            line++;
+            if (!tokens.skipBlankLines())
+                continue;
+            int year = tokens.nextInt();
+            int month = tokens.nextMonth(dictionaries);
+            int pressure = tokens.nextInt();
+            int speed = tokens.nextInt();
+            cursor.set(year, month, pressure, speed, scale.categoryOf(speed),
+                tokens.restOfLineName(dictionaries));
+            return true;
+        }
+    }
+
+    /**
+     * Moves the unread bytes to the front of the buffer and reads more of
+     * the file after them.  The buffer doubles if one line fills it.
+     *
+     * @throws IOException  if the file cannot be read
+     */
+    private void fill() throws IOException
+    {
+        int unread = limit - pos;
+        if (unread == buffer.length)
+        {
+            byte[] bigger = new byte[buffer.length * 2];
+            System.arraycopy(buffer, pos, bigger, 0, unread);
+            buffer = bigger;
+        }
+        else
+        {
+            System.arraycopy(buffer, pos, buffer, 0, unread);
+        }
+        pos = 0;
+        limit = unread;
+        int n = in.read(buffer, limit, buffer.length - limit);
+        if (n == -1)
+            endOfFile = true;
+        else
+            limit += n;
+    }
+
+    /**
+     * Retrieves the cursor holding the current record.  The same cursor
+     * is returned for the whole stream.
+     *
+     * @return the cursor
+     */
+    public HurricaneCursor getCursor()
+    {
+        return cursor;
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException  if the file cannot be closed
+     */
+    public void close() throws IOException
+    {
+        in.close();
+    }
+
+    /**
+     * Runs an action on every record of a file that matches a query.
+     *
+     * @param filename  file name to be read
+     * @param query     the bounds the records must satisfy
+     * @param action    receives the cursor at each matching record
+     * @return number of matching records
+     *
+     * @throws IOException  if the file cannot be read or a line is malformed
+     */
+    public static int forEach(String filename, HurricaneQuery query,
+        Consumer<HurricaneCursor> action) throws IOException
+    {
+        int count = 0;
+        HurricaneStream stream = new HurricaneStream(filename);
+        try
+        {
+            HurricaneCursor cursor = stream.getCursor();
+            while (stream.next())
+            {
+                if (query.matches(cursor))
+                {
+                    action.accept(cursor);
+                    count++;
+                }
+            }
+        }
+        finally
+        {
+            stream.close();
+        }
+        return count;
+    }
+
+    /**
+     * Computes the statistics of the records of a file that match a query.
+     *
+     * @param filename  file name to be read
+     * @param query     the bounds the records must satisfy
+     * @return statistics of the matching records
+     *
+     * @throws IOException  if the file cannot be read or a line is malformed
+     */
+    public static HurricaneStats stats(String filename, HurricaneQuery query)
+        throws IOException
+    {
+        HurricaneStats stats = new HurricaneStats();
+        forEach(filename, query, cursor -> stats.add(cursor.getPressure(),
+            cursor.getSpeed(), cursor.getCategory()));
+        return stats;
+    }
+
+    /**
+     * Finds the k records of a file with the most extreme values of a key
+     * among those that match a query.
+     *
+     * @param filename  file name to be read
+     * @param query     the bounds the records must satisfy
+     * @param key       the key to rank by; not NAME
+     * @param k         the number of hurricanes wanted; k >= 0
+     * @param largest   true for the largest values, false for the smallest
+     * @return up to k hurricanes, most extreme first; ties are in file order
+     *
+     * @throws IOException  if the file cannot be read or a line is malformed
+     */
+    public static Hurricane[] topK(String filename, HurricaneQuery query,
+        HurricaneKey key, int k, boolean largest) throws IOException
+    {
+        HurricaneTopK top = new HurricaneTopK(key, k, largest);
+        forEach(filename, query, top::offer);
+        return top.toHurricanes();
+    }
+}
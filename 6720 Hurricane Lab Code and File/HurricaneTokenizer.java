@@ -0,0 +1,162 @@
+import java.io.*;
+
+/**
+ * Splits the lines of a hurricane file into fields, working straight on
+ * the file's bytes.  Each line holds the year, month, pressure, speed and
+ * name of a hurricane, separated by spaces or tabs; only the letters of
+ * the name are kept.  The letters are gathered in a reused buffer, so
+ * reading a line creates no objects.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+class HurricaneTokenizer
+{
+    private byte[] data;
+    private int pos;
+    private int end;
+    private int countFrom;
+    private int firstLine;
+    private byte[] nameBuffer = new byte[32];
+
+    /**
+     * Points the tokenizer at a range of bytes.  The range must start at
+     * the beginning of a line and end just after a line break or at the
+     * end of the data.
+     *
+     * @param data       the bytes to read
+     * @param start      the first byte of the range
+     * @param end        one past the last byte of the range
+     * @param countFrom  index of the first byte of line firstLine, where
+     *                   line numbers in error messages are counted from
+     * @param firstLine  line number of the line starting at countFrom
+     */
+    void reset(byte[] data, int start, int end, int countFrom, int firstLine)
+    {
+        this.data = data;
+        this.pos = start;
+        this.end = end;
+        this.countFrom = countFrom;
+        this.firstLine = firstLine;
+    }
+
+    /**
+     * Moves past any whitespace, including line breaks.
+     *
+     * @return true if there is another record to read; otherwise, false
+     */
+    boolean skipBlankLines()
+    {
+        while (pos < end && isWhitespace(data[pos]))
+            pos++;
+        return pos < end;
+    }
+
+    /**
+     * Moves past spaces and tabs, but not past the end of the line.
+     */
+    private void skipSpaces()
+    {
+        while (pos < end && (data[pos] == ' ' || data[pos] == '\t'))
+            pos++;
+    }
+
+    /**
+     * Parses the next field of the current line as a non-negative integer.
+     *
+     * @return the value of the field
+     *
+     * @throws IOException  if the field is missing or not a number
+     */
+    int nextInt() throws IOException
+    {
+        skipSpaces();
+        int start = pos;
+        int value = 0;
+        while (pos < end && '0' <= data[pos] && data[pos] <= '9')
+        {
+            value = value * 10 + (data[pos] - '0');
+            pos++;
+        }
+        if (pos == start || (pos < end && !isWhitespace(data[pos])))
+            throw malformed();
+        return value;
+    }
+
+    /**
+     * Reads the next field of the current line as a month.
+     *
+     * @param columns  holds the month dictionary
+     * @return the month's code in the columns
+     *
+     * @throws IOException  if the field is missing
+     */
+    int nextMonth(HurricaneColumns columns) throws IOException
+    {
+        skipSpaces();
+        int start = pos;
+        while (pos < end && !isWhitespace(data[pos]))
+            pos++;
+        if (pos == start)
+            throw malformed();
+        return columns.monthCode(data, start, pos - start);
+    }
+
+    /**
+     * Reads the letters from the rest of the current line as a name and
+     * moves to the start of the next line.
+     *
+     * @param columns  holds the name dictionary
+     * @return the name's dictionary id in the columns
+     */
+    int restOfLineName(HurricaneColumns columns)
+    {
+        int nameLength = 0;
+        while (pos < end && data[pos] != '\n')
+        {
+            byte c = data[pos];
+            if (('a' <= c && c <= 'z') || ('A' <= c && c <= 'Z'))
+            {
+                if (nameLength == nameBuffer.length)
+                {
+                    byte[] bigger = new byte[nameBuffer.length * 2];
+                    System.arraycopy(nameBuffer, 0, bigger, 0, nameLength);
+                    nameBuffer = bigger;
+                }
+                nameBuffer[nameLength] = c;
+                nameLength++;
+            }
+            pos++;
+        }
+        return columns.nameId(nameBuffer, 0, nameLength);
+    }
+
+    /**
+     * Creates the exception thrown for a line that cannot be parsed.
+     * The line number is only counted here, so parsing good lines
+     * never has to track it.
+     *
+     * @return an exception naming the current line
+     */
+    private IOException malformed()
+    {
+        int line = firstLine;
+        for (int i = countFrom; i < pos; i++)
+        {
+            if (data[i] == '\n')
+                line++;
+        }
+        return new IOException("Malformed hurricane record on line " + line);
+    }
+
+    /**
+     * Determines whether a byte is a space, tab or line break.
+     *
+     * @param c  the byte to check
+     * @return true if c is whitespace; otherwise, false
+     */
+    static boolean isWhitespace(byte c)
+    {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+}
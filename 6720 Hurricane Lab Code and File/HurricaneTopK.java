@@ -0,0 +1,229 @@
+import java.util.*;
+
+/**
+ * Finds the k hurricanes with the largest or smallest value of a key,
+ * such as the ten strongest storms, without sorting the data.  A bounded
+ * heap of primitive longs holds the best k rows seen so far, so the scan
+ * takes O(n log k) time and never moves a record.
+ *
+ * Each heap entry packs a row's score in the high 32 bits and its
+ * inverted row number in the low 32 bits.  Comparing two longs therefore
+ * compares scores first and prefers the earlier row on a tie.
+ *
+ * An instance does the same for the records of a HurricaneStream, which
+ * have no row numbers to return.  Records are numbered in the order they
+ * are offered, and a Hurricane is made only for a record that enters the
+ * heap.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneTopK
+{
+    private HurricaneKey key;
+    private boolean largest;
+    private long[] heap;
+    private Hurricane[] held;
+    private int size;
+    private int offered;
+
+    /**
+     * Initializes an empty search over offered records.
+     *
+     * @param key      the key to rank by; not NAME, since names cannot be
+     *                 ranked before every name has been seen
+     * @param k        the number of hurricanes wanted; k >= 0
+     * @param largest  true for the largest values, false for the smallest
+     */
+    public HurricaneTopK(HurricaneKey key, int k, boolean largest)
+    {
+        if (key == HurricaneKey.NAME)
+            throw new IllegalArgumentException("Cannot rank names while streaming");
+        this.key = key;
+        this.largest = largest;
+        heap = new long[Math.max(k, 0)];
+        held = new Hurricane[heap.length];
+    }
+
+    /**
+     * Considers the current record of a stream.
+     *
+     * @param cursor  the record
+     */
+    public void offer(HurricaneCursor cursor)
+    {
+        int value = cursor.valueOf(key);
+        long entry = pack(largest ? value : -value, offered);
+        offered++;
+        if (size < heap.length)
+        {
+            heap[size] = entry;
+            held[size] = cursor.toHurricane();
+            siftUp(heap, held, size);
+            size++;
+        }
+        else if (size > 0 && entry > heap[0])
+        {
+            heap[0] = entry;
+            held[0] = cursor.toHurricane();
+            siftDown(heap, held, 0, size);
+        }
+    }
+
+    /**
+     * Retrieves the hurricanes kept so far.
+     *
+     * @return up to k hurricanes, most extreme first; ties come out in the
+     *         order they were offered
+     */
+    public Hurricane[] toHurricanes()
+    {
+        long[] entries = Arrays.copyOf(heap, size);
+        Hurricane[] records = Arrays.copyOf(held, size);
+        Hurricane[] hurs = new Hurricane[size];
+        int n = size;
+        for (int i = size - 1; i >= 0; i--)
+        {
+            hurs[i] = records[0];
+            n--;
+            entries[0] = entries[n];
+            records[0] = records[n];
+            siftDown(entries, records, 0, n);
+        }
+        return hurs;
+    }
+
+    /**
+     * Finds the rows with the k most extreme values of a key.
+     *
+     * @param columns  the hurricane data
+     * @param key      the key to rank by
+     * @param k        the number of rows wanted; k >= 0
+     * @param largest  true for the largest values, false for the smallest
+     * @return up to k row numbers, most extreme first; ties come out in
+     *         row order
+     */
+    public static int[] topRows(HurricaneColumns columns, HurricaneKey key,
+        int k, boolean largest)
+    {
+        int n = columns.size();
+        k = Math.min(k, n);
+        if (k <= 0)
+            return new int[0];
+        int[] nameRanks = key == HurricaneKey.NAME ? columns.nameRanks() : null;
+
+        // Min-heap: the root is the weakest of the rows kept so far
+        long[] heap = new long[k];
+        int size = 0;
+        for (int row = 0; row < n; row++)
+        {
+            int value = key.valueOf(columns, row);
+            if (nameRanks != null)
+                value = nameRanks[value];
+            long entry = pack(largest ? value : -value, row);
+            if (size < k)
+            {
+                heap[size] = entry;
+                siftUp(heap, null, size);
+                size++;
+            }
+            else if (entry > heap[0])
+            {
+                heap[0] = entry;
+                siftDown(heap, null, 0, size);
+            }
+        }
+
+        // Taking the root repeatedly gives the rows weakest first
+        int[] rows = new int[size];
+        for (int i = size - 1; i >= 0; i--)
+        {
+            rows[i] = unpackRow(heap[0]);
+            size--;
+            heap[0] = heap[size];
+            siftDown(heap, null, 0, size);
+        }
+        return rows;
+    }
+
+    /**
+     * Packs a score and a row into one heap entry.
+     *
+     * @param score  the row's score; larger is better
+     * @param row    the row number
+     * @return the heap entry
+     */
+    private static long pack(int score, int row)
+    {
+        return ((long) score << 32) | (~row & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Retrieves the row number of a heap entry.
+     *
+     * @param entry  the heap entry
+     * @return the row number
+     */
+    private static int unpackRow(long entry)
+    {
+        return ~(int) entry;
+    }
+
+    /**
+     * Moves a new entry up the heap until its parent is not larger.
+     *
+     * @param heap   the heap
+     * @param held   the record of each entry, moved along with it; may be null
+     * @param index  index of the new entry
+     */
+    private static void siftUp(long[] heap, Object[] held, int index)
+    {
+        long entry = heap[index];
+        Object record = held == null ? null : held[index];
+        while (index > 0)
+        {
+            int parent = (index - 1) / 2;
+            if (heap[parent] <= entry)
+                break;
+            heap[index] = heap[parent];
+            if (held != null)
+                held[index] = held[parent];
+            index = parent;
+        }
+        heap[index] = entry;
+        if (held != null)
+            held[index] = record;
+    }
+
+    /**
+     * Moves an entry down the heap until neither child is smaller.
+     *
+     * @param heap   the heap
+     * @param held   the record of each entry, moved along with it; may be null
+     * @param index  index of the entry
+     * @param size   number of entries in the heap
+     */
+    private static void siftDown(long[] heap, Object[] held, int index,
+        int size)
+    {
+        long entry = heap[index];
+        Object record = held == null ? null : held[index];
+        while (true)
+        {
+            int child = 2 * index + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && heap[child + 1] < heap[child])
+                child++;
+            if (entry <= heap[child])
+                break;
+            heap[index] = heap[child];
+            if (held != null)
+                held[index] = held[child];
+            index = child;
+        }
+        heap[index] = entry;
+        if (held != null)
+            held[index] = record;
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * A read-only list of hurricanes given as row numbers into a set of
+ * columns.  Creating a view copies no data, and a view over part of a
+ * row array shares that array as well.  A Hurricane object is made only
+ * when one is asked for, such as for printing.
+ *
+ * @author Chenkai Hong
+ * @version October 18, 2026
+ */
+public class HurricaneView
+{
+    private HurricaneColumns columns;
+    private int[] rows;
+    private int from;
+    private int to;
+
+    /**
+     * Initializes a view of every row in an array.
+     *
+     * @param columns  the hurricane data
+     * @param rows     the row numbers in the view, in order
+     */
+    public HurricaneView(HurricaneColumns columns, int[] rows)
+    {
+        this(columns, rows, 0, rows.length);
+    }
+
+    /**
+     * Initializes a view of part of a row array.
+     *
+     * @param columns  the hurricane data
+     * @param rows     holds the row numbers in the view
+     * @param from     index in rows of the first hurricane
+     * @param to       one past the index in rows of the last hurricane
+     */
+    public HurricaneView(HurricaneColumns columns, int[] rows, int from,
+        int to)
+    {
+        this.columns = columns;
+        this.rows = rows;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Retrieves the number of hurricanes in the view.
+     *
+     * @return number of hurricanes
+     */
+    public int size()
+    {
+        return to - from;
+    }
+
+    /**
+     * Creates the Hurricane at a position.
+     *
+     * @param index  position in the view; 0 <= index < size()
+     * @return a new Hurricane holding the row's values
+     */
+    public Hurricane get(int index)
+    {
+        return columns.toHurricane(row(index));
+    }
+
+    /**
+     * Retrieves the row number of a hurricane.
+     *
+     * @param index  position in the view; 0 <= index < size()
+     * @return the row number
+     */
+    public int row(int index)
+    {
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException("Index: " + index
+                + ", Size: " + size());
+        return rows[from + index];
+    }
+
+    /**
+     * Creates the hurricanes in a new array, for printing.
+     *
+     * @return new Hurricanes in view order
+     */
+    public Hurricane[] toArray()
+    {
+        Hurricane[] hurs = new Hurricane[size()];
+        for (int i = 0; i < hurs.length; i++)
+        {
+            hurs[i] = columns.toHurricane(rows[from + i]);
+        }
+        return hurs;
+    }
+}